@@ -0,0 +1,29 @@
+package pickyrelics.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in for AbstractRelic: just the fields the preview selection reads.
+ */
+public final class BenchRelic {
+    public final String id;
+    public final String name;
+
+    public BenchRelic(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Build a pool with a realistic mix of short and long display names.
+     */
+    public static List<BenchRelic> pool(String prefix, int size) {
+        List<BenchRelic> pool = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = (i % 3 == 0) ? "Long Relic Name " + i : "Relic " + i;
+            pool.add(new BenchRelic(prefix + ":" + i, name));
+        }
+        return pool;
+    }
+}
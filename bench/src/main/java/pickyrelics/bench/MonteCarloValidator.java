@@ -0,0 +1,413 @@
+package pickyrelics.bench;
+
+import pickyrelics.core.TierMath;
+import pickyrelics.core.TierTransitionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Parallel Monte Carlo check that the alias-table tier shift sampler draws the same
+ * distribution as the original loop algorithm.
+ *
+ * TierTransitionTable's probability matrix and its alias tables are built from the same
+ * shift rows, so comparing one against the other can't catch a mistake in those rows.
+ * The expected distribution instead comes from {@link ReferenceTierShift}, a copy of the
+ * candidate-list / cumulative-weight algorithm TierUtils used before the alias tables.
+ *
+ * For every toggle combination (higher/lower/shop/boss) and every starting tier, plus the
+ * Event tier (forced variance, measured from Uncommon), both samplers run across all cores
+ * on independent SplittableRandom streams. The two outcome histograms (tiers plus
+ * "unchanged") are compared with a chi-square test of homogeneity and a two-sample
+ * Kolmogorov-Smirnov distance.
+ *
+ * Usage: java -cp benchmarks.jar pickyrelics.bench.MonteCarloValidator
+ *            [drawsPerCase] [chance] [magnitude] [seed]
+ *
+ * Exits with status 1 if any case fails.
+ */
+public final class MonteCarloValidator {
+
+    // Significance level per case; with 96 cases a false alarm is still unlikely
+    private static final double ALPHA = 0.001;
+
+    // KS critical value at the same level (c(alpha) * sqrt((n + m) / (n * m)))
+    private static final double KS_C_ALPHA = Math.sqrt(-0.5 * Math.log(ALPHA / 2.0));
+
+    // Draws per leaf task before the work is no longer split
+    private static final long LEAF_DRAWS = 1L << 20;
+
+    // Histogram bin for NO_CHANGE, after the tier positions
+    private static final int UNCHANGED_BIN = TierTransitionTable.TIER_COUNT;
+    private static final int BIN_COUNT = TierTransitionTable.TIER_COUNT + 1;
+
+    // Pseudo start row for the Event tier, which shifts from Uncommon without a chance roll
+    private static final int EVENT_START = TierTransitionTable.TIER_COUNT;
+    private static final int EVENT_REFERENCE_POSITION = 1;
+
+    private MonteCarloValidator() {
+    }
+
+    public static void main(String[] args) {
+        long drawsPerCase = args.length > 0 ? Long.parseLong(args[0]) : 5_000_000L;
+        int chance = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        int magnitude = args.length > 2 ? Integer.parseInt(args[2]) : 35;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0x5EEDL;
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        SplittableRandom root = new SplittableRandom(seed);
+
+        System.out.printf(Locale.ROOT, "Monte Carlo validation: %,d draws/case, chance=%d, magnitude=%d, %d threads%n",
+                drawsPerCase, chance, magnitude, pool.getParallelism());
+        System.out.printf(Locale.ROOT, "%-24s %-6s %12s %4s %10s %10s %10s  %s%n",
+                "toggles (H L S B)", "start", "chi2", "df", "p-value", "KS D", "KS crit", "result");
+
+        long startNanos = System.nanoTime();
+        int failures = 0;
+        int cases = 0;
+
+        for (int toggles = 0; toggles < 16; toggles++) {
+            boolean higher = (toggles & 1) != 0;
+            boolean lower = (toggles & 2) != 0;
+            boolean shop = (toggles & 4) != 0;
+            boolean boss = (toggles & 8) != 0;
+            TierTransitionTable table = TierTransitionTable.compile(chance, magnitude, higher, lower, shop, boss);
+            ReferenceTierShift reference = new ReferenceTierShift(chance, magnitude, higher, lower, shop, boss);
+
+            for (int start = 0; start <= EVENT_START; start++) {
+                long[] observed = pool.invoke(new DrawTask(table, null, start, drawsPerCase, root.split()));
+                long[] expected = pool.invoke(new DrawTask(null, reference, start, drawsPerCase, root.split()));
+                CaseResult result = evaluate(observed, expected, drawsPerCase);
+                cases++;
+                if (!result.passed) failures++;
+
+                System.out.printf(Locale.ROOT, "%-24s %-6s %12.3f %4d %10.4g %10.3g %10.3g  %s%n",
+                        String.format(Locale.ROOT, "%d %d %d %d", bit(higher), bit(lower), bit(shop), bit(boss)),
+                        start == EVENT_START ? "event" : Integer.toString(start),
+                        result.chiSquare, result.degreesOfFreedom, result.pValue,
+                        result.ksDistance, result.ksCritical, result.passed ? "ok" : "FAIL " + result.reason);
+            }
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        double totalDraws = 2.0 * drawsPerCase * cases;
+        System.out.printf(Locale.ROOT, "%d/%d cases passed, %.3g draws in %.1fs (%.3g draws/s)%n",
+                cases - failures, cases, totalDraws, seconds, totalDraws / seconds);
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int bit(boolean b) {
+        return b ? 1 : 0;
+    }
+
+    /**
+     * Fork/join task that splits draws into leaves, each with its own RNG stream.
+     * Draws from the alias table when table is set, otherwise from the reference algorithm.
+     */
+    private static final class DrawTask extends RecursiveTask<long[]> {
+        private final TierTransitionTable table;
+        private final ReferenceTierShift reference;
+        private final int start;
+        private final long draws;
+        private final SplittableRandom random;
+
+        DrawTask(TierTransitionTable table, ReferenceTierShift reference, int start, long draws,
+                 SplittableRandom random) {
+            this.table = table;
+            this.reference = reference;
+            this.start = start;
+            this.draws = draws;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (draws <= LEAF_DRAWS) {
+                return drawLeaf();
+            }
+
+            long half = draws / 2;
+            DrawTask left = new DrawTask(table, reference, start, half, random.split());
+            DrawTask right = new DrawTask(table, reference, start, draws - half, random);
+            left.fork();
+            long[] counts = right.compute();
+            long[] leftCounts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += leftCounts[i];
+            }
+            return counts;
+        }
+
+        private long[] drawLeaf() {
+            long[] counts = new long[BIN_COUNT];
+            SplittableRandom rng = random;
+            IntUnaryOperator shouldChange = chance -> rng.nextInt(100) < chance ? 1 : 0;
+            DoubleSupplier randomDouble = rng::nextDouble;
+
+            boolean forceVariance = start == EVENT_START;
+            int referencePosition = forceVariance ? EVENT_REFERENCE_POSITION : start;
+
+            for (long i = 0; i < draws; i++) {
+                int result = table != null
+                        ? TierMath.calculateModifiedPosition(table, referencePosition, forceVariance,
+                                shouldChange, randomDouble)
+                        : reference.calculateModifiedPosition(referencePosition, forceVariance,
+                                shouldChange, randomDouble);
+                counts[result == TierMath.NO_CHANGE ? UNCHANGED_BIN : result]++;
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * The tier shift algorithm as TierUtils implemented it before the alias tables:
+     * roll the chance, build the candidate list in each enabled direction, pick a direction
+     * 50/50 when both have candidates, then walk the cumulative Math.pow weights.
+     * Kept deliberately naive (lists, per-call weights) so it shares no tables with core.
+     */
+    private static final class ReferenceTierShift {
+        private final int chance;
+        private final int magnitude;
+        private final boolean allowHigher;
+        private final boolean allowLower;
+        private final boolean allowShop;
+        private final boolean allowBoss;
+
+        ReferenceTierShift(int chance, int magnitude, boolean allowHigher, boolean allowLower,
+                           boolean allowShop, boolean allowBoss) {
+            this.chance = chance;
+            this.magnitude = magnitude;
+            this.allowHigher = allowHigher;
+            this.allowLower = allowLower;
+            this.allowShop = allowShop;
+            this.allowBoss = allowBoss;
+        }
+
+        int calculateModifiedPosition(int referencePosition, boolean forceVariance,
+                                      IntUnaryOperator shouldChange, DoubleSupplier randomDouble) {
+            // Stage 1: Check if variance occurs (Event tier always forces variance)
+            if (!forceVariance) {
+                if (!allowHigher && !allowLower) {
+                    return TierMath.NO_CHANGE;
+                }
+                if (chance <= 0 || shouldChange.applyAsInt(chance) == 0) {
+                    return TierMath.NO_CHANGE;
+                }
+            }
+
+            // Stage 2: Build candidates for each direction
+            List<int[]> upCandidates = allowHigher
+                    ? buildCandidatesInDirection(referencePosition, +1) : new ArrayList<>();
+            List<int[]> downCandidates = allowLower
+                    ? buildCandidatesInDirection(referencePosition, -1) : new ArrayList<>();
+
+            boolean hasUp = !upCandidates.isEmpty();
+            boolean hasDown = !downCandidates.isEmpty();
+            if (!hasUp && !hasDown) {
+                return TierMath.NO_CHANGE;
+            }
+
+            List<int[]> candidates;
+            if (hasUp && hasDown) {
+                candidates = randomDouble.getAsDouble() < 0.5 ? downCandidates : upCandidates;
+            } else if (hasUp) {
+                candidates = upCandidates;
+            } else {
+                candidates = downCandidates;
+            }
+
+            // Stage 3: Select tier within chosen direction based on magnitude
+            return selectFromCandidates(candidates, randomDouble);
+        }
+
+        private boolean isTierEnabled(int position) {
+            switch (position) {
+                case 0:
+                case 1:
+                case 2:
+                    return true;
+                case 3:
+                    return allowShop;
+                case 4:
+                    return allowBoss;
+                default:
+                    return false;
+            }
+        }
+
+        // [position, distance] pairs, nearest first
+        private List<int[]> buildCandidatesInDirection(int referencePosition, int direction) {
+            List<int[]> candidates = new ArrayList<>();
+            int pos = referencePosition + direction;
+            while (pos >= 0 && pos < TierTransitionTable.TIER_COUNT) {
+                if (isTierEnabled(pos)) {
+                    candidates.add(new int[] { pos, Math.abs(pos - referencePosition) });
+                }
+                pos += direction;
+            }
+            return candidates;
+        }
+
+        private int selectFromCandidates(List<int[]> candidates, DoubleSupplier randomDouble) {
+            if (candidates.size() == 1) return candidates.get(0)[0];
+
+            int maxDistance = 0;
+            for (int[] c : candidates) {
+                maxDistance = Math.max(maxDistance, c[1]);
+            }
+
+            double totalWeight = 0;
+            double[] weights = new double[candidates.size()];
+            for (int i = 0; i < candidates.size(); i++) {
+                weights[i] = weight(candidates.get(i)[1], maxDistance);
+                totalWeight += weights[i];
+            }
+
+            if (totalWeight <= 0) {
+                return candidates.get((int) (randomDouble.getAsDouble() * candidates.size()))[0];
+            }
+
+            double roll = randomDouble.getAsDouble() * totalWeight;
+            double cumulative = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                cumulative += weights[i];
+                if (roll < cumulative) {
+                    return candidates.get(i)[0];
+                }
+            }
+            return candidates.get(candidates.size() - 1)[0];
+        }
+
+        // weight = d^(4 * (mag/50 - 1)), hard cutoffs at magnitude 0 and 100
+        private double weight(int distance, int maxDistance) {
+            if (magnitude <= 0) return distance == 1 ? 1.0 : 0.0;
+            if (magnitude >= 100) return distance == maxDistance ? 1.0 : 0.0;
+            return Math.pow(distance, 4.0 * (magnitude / 50.0 - 1.0));
+        }
+    }
+
+    private static final class CaseResult {
+        double chiSquare;
+        int degreesOfFreedom;
+        double pValue = 1.0;
+        double ksDistance;
+        double ksCritical;
+        boolean passed = true;
+        String reason = "";
+    }
+
+    /**
+     * Compare the alias sampler's histogram with the reference histogram for one case.
+     * Both come from the same number of draws.
+     */
+    private static CaseResult evaluate(long[] observed, long[] expected, long draws) {
+        CaseResult result = new CaseResult();
+        int categories = 0;
+        double observedCdf = 0;
+        double expectedCdf = 0;
+
+        for (int bin = 0; bin < BIN_COUNT; bin++) {
+            long total = observed[bin] + expected[bin];
+            if (total > 0) {
+                // 2 x k homogeneity with equal sample sizes: sum of (a - b)^2 / (a + b)
+                double diff = observed[bin] - expected[bin];
+                result.chiSquare += diff * diff / total;
+                categories++;
+            }
+
+            observedCdf += (double) observed[bin] / draws;
+            expectedCdf += (double) expected[bin] / draws;
+            result.ksDistance = Math.max(result.ksDistance, Math.abs(observedCdf - expectedCdf));
+        }
+
+        result.degreesOfFreedom = Math.max(categories - 1, 0);
+        if (result.degreesOfFreedom > 0) {
+            result.pValue = chiSquareSurvival(result.chiSquare, result.degreesOfFreedom);
+            if (result.pValue < ALPHA) {
+                result.passed = false;
+                result.reason = "chi-square";
+            }
+        }
+
+        // Discrete KS: the continuous critical value is conservative here
+        result.ksCritical = KS_C_ALPHA * Math.sqrt(2.0 / draws);
+        if (result.passed && result.ksDistance > result.ksCritical) {
+            result.passed = false;
+            result.reason = "KS";
+        }
+        return result;
+    }
+
+    /**
+     * P(X >= x) for a chi-square distribution with k degrees of freedom.
+     */
+    static double chiSquareSurvival(double x, int k) {
+        return regularizedGammaQ(k / 2.0, x / 2.0);
+    }
+
+    /**
+     * Upper regularized incomplete gamma Q(a, x), series for x < a + 1, continued fraction otherwise.
+     */
+    private static double regularizedGammaQ(double a, double x) {
+        if (x <= 0) return 1.0;
+        double logPrefix = -x + a * Math.log(x) - logGamma(a);
+
+        if (x < a + 1.0) {
+            double term = 1.0 / a;
+            double sum = term;
+            for (int n = 1; n < 500; n++) {
+                term *= x / (a + n);
+                sum += term;
+                if (Math.abs(term) < Math.abs(sum) * 1e-15) break;
+            }
+            return 1.0 - sum * Math.exp(logPrefix);
+        }
+
+        // Lentz's method for the continued fraction
+        double tiny = 1e-300;
+        double b = x + 1.0 - a;
+        double c = 1.0 / tiny;
+        double d = 1.0 / b;
+        double h = d;
+        for (int i = 1; i < 500; i++) {
+            double an = -i * (i - a);
+            b += 2.0;
+            d = an * d + b;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = b + an / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1.0 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1.0) < 1e-15) break;
+        }
+        return Math.exp(logPrefix) * h;
+    }
+
+    /**
+     * Lanczos approximation of ln(Gamma(x)) for x > 0.
+     */
+    private static double logGamma(double x) {
+        double[] coefficients = {
+                76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+        };
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -0,0 +1,69 @@
+package pickyrelics.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pickyrelics.core.PreviewPool;
+import pickyrelics.core.PreviewSelector;
+import pickyrelics.core.TierTransitionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one preview regeneration (one slider tick) for modded pool sizes.
+ * Pools are prefiltered once in setup, as the mod does on first use.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreviewSelectionBenchmark {
+
+    /** Relics per tier pool (vanilla is roughly 30-50; large modpacks reach several hundred). */
+    @Param({"40", "400"})
+    public int poolSize;
+
+    @Param({"5"})
+    public int count;
+
+    private final List<PreviewPool<BenchRelic>> pools = new ArrayList<>();
+    private PreviewPool<BenchRelic> eventPool;
+    private PreviewSelector<BenchRelic> selector;
+    private TierTransitionTable table;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        selector = new PreviewSelector<>(r -> r.id, r -> r.name.length(), 12);
+        pools.clear();
+        for (int position = 0; position < TierTransitionTable.TIER_COUNT; position++) {
+            pools.add(selector.prefilter(BenchRelic.pool("tier" + position, poolSize)));
+        }
+        eventPool = selector.prefilter(BenchRelic.pool("event", poolSize / 4));
+        table = TierTransitionTable.compile(50, 50, true, true, true, true);
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public List<BenchRelic> selectCommon() {
+        return selector.select(pools.get(0), 0, count, pools::get, table, random);
+    }
+
+    @Benchmark
+    public List<BenchRelic> selectEvent() {
+        return selector.selectForEvent(eventPool, pools.get(0), pools.get(1), pools.get(2), count, random);
+    }
+}
@@ -0,0 +1,119 @@
+package pickyrelics.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-frame cost of invoking the private RewardItem.renderRelicLink for every chained item.
+ *
+ * Uses a stand-in class with the same private instance method shape, since the game jar is
+ * not available here. Every 5-choice group renders the chain icon on 4 items per frame.
+ * lookupAndInvoke is the old per-call reflective path, cachedHandle the RenderLinkPatch path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderLinkBenchmark {
+
+    private static final MethodHandle RENDER_RELIC_LINK;
+
+    static {
+        try {
+            Method method = StandInReward.class.getDeclaredMethod("renderRelicLink", StandInBatch.class);
+            method.setAccessible(true);
+            RENDER_RELIC_LINK = MethodHandles.lookup().unreflect(method);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** 5-choice groups on screen at once. */
+    @Param({"1", "3", "6"})
+    public int groups;
+
+    private StandInReward[] chained;
+    private StandInBatch batch;
+    private Method cachedMethod;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        // The first item of each group has no chain above it
+        chained = new StandInReward[groups * 4];
+        for (int i = 0; i < chained.length; i++) {
+            chained[i] = new StandInReward();
+        }
+        batch = new StandInBatch();
+        cachedMethod = StandInReward.class.getDeclaredMethod("renderRelicLink", StandInBatch.class);
+        cachedMethod.setAccessible(true);
+    }
+
+    @Benchmark
+    public int lookupAndInvoke() throws ReflectiveOperationException {
+        for (StandInReward reward : chained) {
+            Method method = StandInReward.class.getDeclaredMethod("renderRelicLink", StandInBatch.class);
+            method.setAccessible(true);
+            method.invoke(reward, batch);
+        }
+        return batch.draws;
+    }
+
+    @Benchmark
+    public int cachedMethod() throws ReflectiveOperationException {
+        for (StandInReward reward : chained) {
+            cachedMethod.invoke(reward, batch);
+        }
+        return batch.draws;
+    }
+
+    @Benchmark
+    public int cachedHandle() throws Throwable {
+        for (StandInReward reward : chained) {
+            RENDER_RELIC_LINK.invokeExact(reward, batch);
+        }
+        return batch.draws;
+    }
+
+    @Benchmark
+    public int directCall() {
+        for (StandInReward reward : chained) {
+            reward.renderDirect(batch);
+        }
+        return batch.draws;
+    }
+
+    /** Stand-in for SpriteBatch: counts draw calls so the work can't be eliminated. */
+    public static final class StandInBatch {
+        int draws;
+    }
+
+    /** Stand-in for RewardItem with a private render method like renderRelicLink. */
+    public static final class StandInReward {
+        private final float y = 540.0f;
+
+        @SuppressWarnings("unused")
+        private void renderRelicLink(StandInBatch sb) {
+            if (y > 0) sb.draws++;
+        }
+
+        void renderDirect(StandInBatch sb) {
+            renderRelicLink(sb);
+        }
+    }
+}
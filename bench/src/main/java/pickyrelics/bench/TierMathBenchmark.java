@@ -0,0 +1,99 @@
+package pickyrelics.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pickyrelics.core.TierMath;
+import pickyrelics.core.TierTransitionTable;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Throughput of the tier math hot paths: weights, tier shift draws and probability lookups.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TierMathBenchmark {
+
+    @Param({"25", "50", "75"})
+    public int magnitude;
+
+    @Param({"50"})
+    public int chance;
+
+    private TierTransitionTable table;
+    private SplittableRandom random;
+    private IntUnaryOperator shouldChange;
+    private DoubleSupplier randomDouble;
+    private int startPosition;
+
+    @Setup
+    public void setup() {
+        table = TierTransitionTable.compile(chance, magnitude, true, true, true, true);
+        random = new SplittableRandom(42);
+        shouldChange = c -> random.nextInt(100) < c ? 1 : 0;
+        randomDouble = random::nextDouble;
+        startPosition = 1;
+    }
+
+    @Benchmark
+    public double calculateWeight() {
+        double sum = 0;
+        for (int d = 1; d <= 4; d++) {
+            sum += TierMath.calculateWeight(d, magnitude, 4);
+        }
+        return sum;
+    }
+
+    /** Baseline: the uncached Math.pow formula the lookup table replaced. */
+    @Benchmark
+    public double calculateWeightPow() {
+        double sum = 0;
+        for (int d = 1; d <= 4; d++) {
+            sum += TierMath.computeWeight(d, magnitude, 4);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double normalizedWeight() {
+        double sum = 0;
+        for (int d = 1; d <= 4; d++) {
+            sum += TierMath.normalizedWeight(0b1111, magnitude, d);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int calculateModifiedTier() {
+        return TierMath.calculateModifiedPosition(table, startPosition, false, shouldChange, randomDouble);
+    }
+
+    @Benchmark
+    public void calculateTierProbabilities(Blackhole bh) {
+        for (int result = 0; result < TierTransitionTable.TIER_COUNT; result++) {
+            bh.consume(table.getProbability(startPosition, result));
+        }
+    }
+
+    @Benchmark
+    public TierTransitionTable compileTable() {
+        return TierTransitionTable.compile(chance, magnitude, true, true, true, true);
+    }
+}
@@ -0,0 +1,128 @@
+package pickyrelics.core;
+
+/**
+ * Immutable snapshot of the Picky Relics settings.
+ *
+ * PickyRelicsMod publishes a new snapshot through a single volatile reference whenever
+ * a setting changes, so readers (reward patches, UI, background work) see one
+ * consistent configuration for the whole computation. Snapshots compare by value
+ * and can be used as cache keys.
+ */
+public final class PickyRelicsConfig {
+    // Display settings
+    public final boolean showTierLabels;
+
+    // Per-tier choice counts (1-5)
+    public final int starterChoices;
+    public final int commonChoices;
+    public final int uncommonChoices;
+    public final int rareChoices;
+    public final int bossChoices;
+    public final int shopChoices;
+    public final int specialChoices;
+
+    // Tier shift settings
+    public final int tierChangeChance;
+    public final int tierChangeMagnitude;
+    public final boolean allowHigherTiers;
+    public final boolean allowLowerTiers;
+    public final boolean allowShopRelics;
+    public final boolean allowBossRelics;
+
+    private final TierTransitionTable transitionTable;
+
+    /**
+     * Create a snapshot. The transition table is reused from the previous snapshot
+     * when none of the tier shift settings changed.
+     *
+     * @param previous Previously published snapshot, or null
+     */
+    public PickyRelicsConfig(boolean showTierLabels,
+                             int starterChoices, int commonChoices, int uncommonChoices, int rareChoices,
+                             int bossChoices, int shopChoices, int specialChoices,
+                             int tierChangeChance, int tierChangeMagnitude,
+                             boolean allowHigherTiers, boolean allowLowerTiers,
+                             boolean allowShopRelics, boolean allowBossRelics,
+                             PickyRelicsConfig previous) {
+        this.showTierLabels = showTierLabels;
+        this.starterChoices = starterChoices;
+        this.commonChoices = commonChoices;
+        this.uncommonChoices = uncommonChoices;
+        this.rareChoices = rareChoices;
+        this.bossChoices = bossChoices;
+        this.shopChoices = shopChoices;
+        this.specialChoices = specialChoices;
+        this.tierChangeChance = tierChangeChance;
+        this.tierChangeMagnitude = tierChangeMagnitude;
+        this.allowHigherTiers = allowHigherTiers;
+        this.allowLowerTiers = allowLowerTiers;
+        this.allowShopRelics = allowShopRelics;
+        this.allowBossRelics = allowBossRelics;
+
+        if (previous != null && previous.transitionTable.matches(tierChangeChance, tierChangeMagnitude,
+                allowHigherTiers, allowLowerTiers, allowShopRelics, allowBossRelics)) {
+            this.transitionTable = previous.transitionTable;
+        } else {
+            this.transitionTable = TierTransitionTable.compile(tierChangeChance, tierChangeMagnitude,
+                    allowHigherTiers, allowLowerTiers, allowShopRelics, allowBossRelics);
+        }
+    }
+
+    /**
+     * Compiled tier transition table for this snapshot's tier shift settings.
+     */
+    public TierTransitionTable getTransitionTable() {
+        return transitionTable;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PickyRelicsConfig)) return false;
+        PickyRelicsConfig other = (PickyRelicsConfig) o;
+        return showTierLabels == other.showTierLabels
+                && starterChoices == other.starterChoices
+                && commonChoices == other.commonChoices
+                && uncommonChoices == other.uncommonChoices
+                && rareChoices == other.rareChoices
+                && bossChoices == other.bossChoices
+                && shopChoices == other.shopChoices
+                && specialChoices == other.specialChoices
+                && tierChangeChance == other.tierChangeChance
+                && tierChangeMagnitude == other.tierChangeMagnitude
+                && allowHigherTiers == other.allowHigherTiers
+                && allowLowerTiers == other.allowLowerTiers
+                && allowShopRelics == other.allowShopRelics
+                && allowBossRelics == other.allowBossRelics;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = showTierLabels ? 1 : 0;
+        h = 31 * h + starterChoices;
+        h = 31 * h + commonChoices;
+        h = 31 * h + uncommonChoices;
+        h = 31 * h + rareChoices;
+        h = 31 * h + bossChoices;
+        h = 31 * h + shopChoices;
+        h = 31 * h + specialChoices;
+        h = 31 * h + tierChangeChance;
+        h = 31 * h + tierChangeMagnitude;
+        h = 31 * h + (allowHigherTiers ? 1 : 0);
+        h = 31 * h + (allowLowerTiers ? 1 : 0);
+        h = 31 * h + (allowShopRelics ? 1 : 0);
+        h = 31 * h + (allowBossRelics ? 1 : 0);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "showTierLabels=" + showTierLabels +
+                ", starter=" + starterChoices + ", common=" + commonChoices +
+                ", uncommon=" + uncommonChoices + ", rare=" + rareChoices +
+                ", boss=" + bossChoices + ", shop=" + shopChoices + ", special=" + specialChoices +
+                ", tierChangeChance=" + tierChangeChance + ", tierChangeMagnitude=" + tierChangeMagnitude +
+                ", allowHigher=" + allowHigherTiers + ", allowLower=" + allowLowerTiers +
+                ", allowShop=" + allowShopRelics + ", allowBoss=" + allowBossRelics;
+    }
+}
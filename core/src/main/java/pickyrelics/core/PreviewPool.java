@@ -0,0 +1,42 @@
+package pickyrelics.core;
+
+import java.util.List;
+
+/**
+ * Immutable, name-length-filtered copy of one relic pool for the settings preview.
+ *
+ * Built once per pool by PreviewSelector.prefilter() and then sampled by index,
+ * so a preview regeneration neither copies nor shuffles the pool.
+ *
+ * @param <T> Relic type
+ */
+public final class PreviewPool<T> {
+    private final Object[] relics;
+    private final int sourceSize;
+
+    PreviewPool(Object[] relics, int sourceSize) {
+        this.relics = relics;
+        this.sourceSize = sourceSize;
+    }
+
+    public int size() {
+        return relics.length;
+    }
+
+    public boolean isEmpty() {
+        return relics.length == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) relics[index];
+    }
+
+    /**
+     * @return true if this was built from a pool of the given list's size
+     *         (detects pools that gained relics after prefiltering)
+     */
+    public boolean matches(List<?> source) {
+        return source.size() == sourceSize;
+    }
+}
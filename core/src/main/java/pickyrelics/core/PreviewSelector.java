@@ -0,0 +1,210 @@
+package pickyrelics.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Game-free selection of sample relics for the settings preview.
+ *
+ * Pools are filtered by name length once (prefilter) and sampled by index afterwards:
+ * a selection of k relics costs O(k) random draws, independent of pool size.
+ *
+ * @param <T> Relic type (AbstractRelic in game, a plain stand-in in benchmarks)
+ */
+public final class PreviewSelector<T> {
+    // Random draws tried before scanning a pool for relics that aren't picked yet
+    private static final int MAX_REJECTIONS = 32;
+
+    private final Function<T, String> idOf;
+    private final ToIntFunction<T> nameLengthOf;
+    private final int maxNameLength;
+
+    /**
+     * @param idOf          Relic id accessor (used to avoid duplicate picks)
+     * @param nameLengthOf  Display name length accessor
+     * @param maxNameLength Longest name that fits the preview panel
+     */
+    public PreviewSelector(Function<T, String> idOf, ToIntFunction<T> nameLengthOf, int maxNameLength) {
+        this.idOf = idOf;
+        this.nameLengthOf = nameLengthOf;
+        this.maxNameLength = maxNameLength;
+    }
+
+    /**
+     * Select preview relics for a regular tier.
+     * The first relic always comes from the original pool; additional relics go
+     * through the tier modification algorithm.
+     *
+     * @param originalPool      Pool for the selected tier
+     * @param referencePosition Tier position used as the shift reference
+     * @param count             Number of relics to select
+     * @param poolForPosition   Pool lookup for a shifted tier position
+     * @param table             Compiled transition table for the current settings
+     * @param rng               Random source
+     * @return Selected relics (empty if the original pool is empty)
+     */
+    public List<T> select(PreviewPool<T> originalPool, int referencePosition, int count,
+                          IntFunction<PreviewPool<T>> poolForPosition, TierTransitionTable table, Random rng) {
+        List<T> result = new ArrayList<>(Math.max(count, 0));
+        Set<String> usedIds = new HashSet<>();  // O(1) duplicate detection
+
+        // First relic always from original tier
+        if (originalPool.isEmpty()) {
+            return result;
+        }
+        T firstRelic = originalPool.get(rng.nextInt(originalPool.size()));
+        result.add(firstRelic);
+        usedIds.add(idOf.apply(firstRelic));
+
+        // Additional relics: apply tier modification algorithm
+        for (int i = 1; i < count; i++) {
+            int modifiedPosition = TierMath.calculateModifiedPosition(table, referencePosition, false,
+                    chance -> rng.nextInt(100) < chance ? 1 : 0,
+                    rng::nextDouble);
+
+            PreviewPool<T> pool = modifiedPosition == TierMath.NO_CHANGE ?
+                    originalPool : poolForPosition.apply(modifiedPosition);
+            if (pool.isEmpty()) {
+                pool = originalPool;  // Fallback to original pool
+            }
+
+            // Avoid picking same relic as previous ones if possible
+            T candidate = pickUnused(pool, usedIds, rng);
+            result.add(candidate);
+            usedIds.add(idOf.apply(candidate));
+        }
+        return result;
+    }
+
+    /**
+     * Select relics for Event tier preview:
+     * - First relic: random from the event pool
+     * - Additional relics: distinct random picks from the combined Common/Uncommon/Rare pools
+     */
+    public List<T> selectForEvent(PreviewPool<T> eventPool, PreviewPool<T> commonPool,
+                                  PreviewPool<T> uncommonPool, PreviewPool<T> rarePool,
+                                  int count, Random rng) {
+        List<T> result = new ArrayList<>(Math.max(count, 0));
+
+        // First relic from event pool
+        if (!eventPool.isEmpty()) {
+            result.add(eventPool.get(rng.nextInt(eventPool.size())));
+        }
+
+        // Additional relics from C/U/R pools, indexed as if the three were concatenated
+        if (count > 1) {
+            int commonSize = commonPool.size();
+            int uncommonEnd = commonSize + uncommonPool.size();
+            int total = uncommonEnd + rarePool.size();
+
+            for (int index : sampleDistinct(total, Math.min(count - 1, total), rng)) {
+                if (index < commonSize) {
+                    result.add(commonPool.get(index));
+                } else if (index < uncommonEnd) {
+                    result.add(uncommonPool.get(index - commonSize));
+                } else {
+                    result.add(rarePool.get(index - uncommonEnd));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Filter relics to those with short names for preview display.
+     * Falls back to the unfiltered pool if no short names are available.
+     * Call once per pool and reuse the result for every selection.
+     */
+    public PreviewPool<T> prefilter(List<T> pool) {
+        List<T> filtered = new ArrayList<>();
+        for (T relic : pool) {
+            if (nameLengthOf.applyAsInt(relic) <= maxNameLength) {
+                filtered.add(relic);
+            }
+        }
+
+        // Fall back to unfiltered if no short names available
+        if (filtered.isEmpty()) {
+            filtered = pool;
+        }
+        return new PreviewPool<>(filtered.toArray(), pool.size());
+    }
+
+    /**
+     * Uniformly pick a relic whose id isn't used yet, or any relic if all of them are.
+     * Rejection sampling is O(1) expected for all but tiny pools; those get an exact scan.
+     */
+    private T pickUnused(PreviewPool<T> pool, Set<String> usedIds, Random rng) {
+        int size = pool.size();
+        for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+            T relic = pool.get(rng.nextInt(size));
+            if (!usedIds.contains(idOf.apply(relic))) {
+                return relic;
+            }
+        }
+
+        int unused = 0;
+        for (int i = 0; i < size; i++) {
+            if (!usedIds.contains(idOf.apply(pool.get(i)))) unused++;
+        }
+        if (unused == 0) {
+            return pool.get(rng.nextInt(size));
+        }
+
+        int target = rng.nextInt(unused);
+        for (int i = 0; i < size; i++) {
+            T relic = pool.get(i);
+            if (!usedIds.contains(idOf.apply(relic)) && target-- == 0) {
+                return relic;
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    /**
+     * Draw k distinct indices from [0, n) in random order.
+     *
+     * Partial Fisher-Yates over a virtual identity array: only the displaced entries are
+     * stored, so it needs O(k) draws and O(k) memory (k is at most four here).
+     */
+    static int[] sampleDistinct(int n, int k, Random rng) {
+        int[] result = new int[k];
+        int[] swappedKeys = new int[k];
+        int[] swappedValues = new int[k];
+        int swapped = 0;
+
+        for (int i = 0; i < k; i++) {
+            int j = i + rng.nextInt(n - i);
+            int valueAtJ = j;
+            int valueAtI = i;
+            int slotJ = -1;
+            for (int s = 0; s < swapped; s++) {
+                if (swappedKeys[s] == j) {
+                    valueAtJ = swappedValues[s];
+                    slotJ = s;
+                }
+                if (swappedKeys[s] == i) {
+                    valueAtI = swappedValues[s];
+                }
+            }
+            result[i] = valueAtJ;
+
+            // Position i is never read again; position j now holds what was at i
+            if (slotJ >= 0) {
+                swappedValues[slotJ] = valueAtI;
+            } else {
+                swappedKeys[swapped] = j;
+                swappedValues[swapped] = valueAtI;
+                swapped++;
+            }
+        }
+        return result;
+    }
+}
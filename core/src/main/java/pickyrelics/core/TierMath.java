@@ -0,0 +1,176 @@
+package pickyrelics.core;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Game-free tier shift math shared by the mod, the benchmarks and the validator.
+ *
+ * Tiers are identified by hierarchy position: Common=0, Uncommon=1, Rare=2, Shop=3, Boss=4.
+ */
+public final class TierMath {
+
+    /** Returned by {@link #calculateModifiedPosition} when the original tier should be kept. */
+    public static final int NO_CHANGE = -1;
+
+    // Weight table domain: distance and maxDistance 1-4, magnitude 0-100
+    private static final int MAX_DISTANCE = 4;
+    private static final int MAGNITUDE_STEPS = 101;
+    private static final int DISTANCE_STRIDE = MAX_DISTANCE + 1;
+    private static final int MASK_COUNT = 1 << MAX_DISTANCE;
+
+    // WEIGHTS[(maxDistance * MAGNITUDE_STEPS + magnitude) * DISTANCE_STRIDE + distance]
+    private static final double[] WEIGHTS = new double[DISTANCE_STRIDE * MAGNITUDE_STEPS * DISTANCE_STRIDE];
+
+    // NORMALIZED[(distanceMask * MAGNITUDE_STEPS + magnitude) * DISTANCE_STRIDE + distance]
+    // distanceMask has bit (d - 1) set for each candidate distance d in one direction
+    private static final double[] NORMALIZED = new double[MASK_COUNT * MAGNITUDE_STEPS * DISTANCE_STRIDE];
+
+    static {
+        for (int maxDistance = 1; maxDistance <= MAX_DISTANCE; maxDistance++) {
+            for (int magnitude = 0; magnitude < MAGNITUDE_STEPS; magnitude++) {
+                for (int distance = 1; distance <= MAX_DISTANCE; distance++) {
+                    WEIGHTS[(maxDistance * MAGNITUDE_STEPS + magnitude) * DISTANCE_STRIDE + distance] =
+                            computeWeight(distance, magnitude, maxDistance);
+                }
+            }
+        }
+
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            int maxDistance = 32 - Integer.numberOfLeadingZeros(mask);
+            int candidateCount = Integer.bitCount(mask);
+            for (int magnitude = 0; magnitude < MAGNITUDE_STEPS; magnitude++) {
+                int base = (mask * MAGNITUDE_STEPS + magnitude) * DISTANCE_STRIDE;
+                double totalWeight = 0;
+                for (int distance = 1; distance <= maxDistance; distance++) {
+                    if ((mask & (1 << (distance - 1))) != 0) {
+                        totalWeight += calculateWeight(distance, magnitude, maxDistance);
+                    }
+                }
+                for (int distance = 1; distance <= maxDistance; distance++) {
+                    if ((mask & (1 << (distance - 1))) != 0) {
+                        double w = calculateWeight(distance, magnitude, maxDistance);
+                        // All weights 0 (e.g. magnitude 0 without an adjacent tier): fall back to uniform
+                        NORMALIZED[base + distance] = totalWeight > 0 ? w / totalWeight : 1.0 / candidateCount;
+                    }
+                }
+            }
+        }
+    }
+
+    private TierMath() {
+    }
+
+    /**
+     * Calculate weight for a candidate tier based on distance, magnitude, and max distance.
+     * Served from a table precomputed at class init; see {@link #computeWeight} for the formula.
+     *
+     * @param distance Distance from original tier (1, 2, 3, or 4)
+     * @param magnitude Magnitude of change (0 to 100)
+     * @param maxDistance Maximum distance in this direction
+     * @return Weight for this candidate
+     */
+    public static double calculateWeight(int distance, int magnitude, int maxDistance) {
+        if (distance <= 0) return 0;
+        if (maxDistance <= 0) return 0;
+        if (distance > MAX_DISTANCE || maxDistance > MAX_DISTANCE) {
+            return computeWeight(distance, magnitude, maxDistance);
+        }
+
+        int mag = Math.max(0, Math.min(MAGNITUDE_STEPS - 1, magnitude));
+        return WEIGHTS[(maxDistance * MAGNITUDE_STEPS + mag) * DISTANCE_STRIDE + distance];
+    }
+
+    /**
+     * Normalized weight of one candidate within a direction, from the precomputed table.
+     * Weights over the candidates in distanceMask sum to 1.0.
+     *
+     * @param distanceMask Bit (d - 1) set for every candidate distance d in the direction
+     * @param magnitude    Magnitude of change (0 to 100)
+     * @param distance     Candidate distance (1-4), must be in distanceMask
+     * @return Probability of this candidate given the direction was chosen
+     */
+    public static double normalizedWeight(int distanceMask, int magnitude, int distance) {
+        int mag = Math.max(0, Math.min(MAGNITUDE_STEPS - 1, magnitude));
+        return NORMALIZED[(distanceMask * MAGNITUDE_STEPS + mag) * DISTANCE_STRIDE + distance];
+    }
+
+    /**
+     * Compute a candidate weight directly with Math.pow (uncached).
+     * Used to build the lookup tables; callers should use {@link #calculateWeight}.
+     *
+     * Uses steep exponential with hard cutoffs at extremes:
+     * - magnitude 0%: only adjacent (d=1) gets weight
+     * - magnitude 50%: uniform (all get equal weight)
+     * - magnitude 100%: only furthest (d=maxDistance) gets weight
+     *
+     * @param distance Distance from original tier (1, 2, 3, or 4)
+     * @param magnitude Magnitude of change (0 to 100)
+     * @param maxDistance Maximum distance in this direction
+     * @return Weight for this candidate
+     */
+    public static double computeWeight(int distance, int magnitude, int maxDistance) {
+        if (distance <= 0) return 0;
+        if (maxDistance <= 0) return 0;
+
+        // Hard cutoff at magnitude 0: only adjacent tier
+        if (magnitude <= 0) {
+            return distance == 1 ? 1.0 : 0.0;
+        }
+
+        // Hard cutoff at magnitude 100: only furthest tier
+        if (magnitude >= 100) {
+            return distance == maxDistance ? 1.0 : 0.0;
+        }
+
+        // Smooth transition using steep exponential: weight = d^(k * (mag/50 - 1))
+        // k=4 gives good steepness: at mag=25, d=1 gets 4x weight of d=2
+        double k = 4.0;
+        double exponent = k * (magnitude / 50.0 - 1.0);
+        return Math.pow(distance, exponent);
+    }
+
+    /**
+     * Calculate a potentially modified tier position using the direction-first algorithm.
+     *
+     * Stage 1: Roll against the table's chance (skipped when forceVariance is set)
+     * Stages 2 + 3: Direction and magnitude sampled together from the table's alias table
+     *
+     * RNG use: the chance roll happens under the same conditions as the original algorithm,
+     * but a shift draws exactly one randomDouble where the original drew one or two
+     * (direction, then magnitude). Seeded runs with tier shifting enabled therefore get
+     * different tiers than versions before the alias tables.
+     *
+     * @param table             Compiled transition table for the current settings
+     * @param referencePosition Tier position the shift is measured from
+     * @param forceVariance     Skip the chance roll (Event tier always shifts)
+     * @param shouldChange      Function that takes chance (0-100) and returns 1 if should change, 0 otherwise
+     * @param randomDouble      Function that returns a random double in [0, 1)
+     * @return The shifted tier position, or {@link #NO_CHANGE} to keep the original tier
+     */
+    public static int calculateModifiedPosition(TierTransitionTable table, int referencePosition,
+                                                boolean forceVariance, IntUnaryOperator shouldChange,
+                                                DoubleSupplier randomDouble) {
+        // Stage 1: Roll for variance. Same order as the original algorithm, so the roll is
+        // consumed even when the starting tier turns out to have no candidates.
+        if (!forceVariance) {
+            // If both direction toggles are off, no variance possible
+            if (!table.allowsShift()) {
+                return NO_CHANGE;
+            }
+
+            int chance = table.getChance();
+            if (chance <= 0 || shouldChange.applyAsInt(chance) == 0) {
+                return NO_CHANGE;
+            }
+        }
+
+        // No valid candidates in either direction
+        if (!table.canShift(referencePosition)) {
+            return NO_CHANGE;
+        }
+
+        // Stages 2 + 3: direction and magnitude in a single alias draw
+        return table.sampleShift(referencePosition, randomDouble.getAsDouble());
+    }
+}
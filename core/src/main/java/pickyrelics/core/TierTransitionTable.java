@@ -0,0 +1,272 @@
+package pickyrelics.core;
+
+/**
+ * Precomputed tier transition probabilities for one tier-shift configuration.
+ *
+ * Row = starting tier position, column = resulting tier position
+ * (Common=0, Uncommon=1, Rare=2, Shop=3, Boss=4). Built once from the
+ * direction-first algorithm and reused until a tier setting changes.
+ *
+ * Also holds one Walker/Vose alias table per starting tier for the shifted
+ * outcome (direction + magnitude combined), so a draw costs a single
+ * random number and no allocation.
+ */
+public final class TierTransitionTable {
+    public static final int TIER_COUNT = 5;
+
+    // Configuration this table was compiled from (used as the cache key)
+    private final int chance;
+    private final int magnitude;
+    private final boolean allowHigher;
+    private final boolean allowLower;
+    private final boolean allowShop;
+    private final boolean allowBoss;
+
+    // matrix[start][result] = P(result | start), each row sums to 1.0
+    private final double[][] matrix;
+
+    // shift[start][result] = P(result | start, variance occurred), all zero if no candidates
+    private final double[][] shift;
+    private final boolean[] canShift;
+
+    // Alias tables over the shift distribution, one per starting tier
+    private final double[][] aliasProb;
+    private final int[][] alias;
+
+    private TierTransitionTable(int chance, int magnitude, boolean allowHigher, boolean allowLower,
+                                boolean allowShop, boolean allowBoss) {
+        this.chance = chance;
+        this.magnitude = magnitude;
+        this.allowHigher = allowHigher;
+        this.allowLower = allowLower;
+        this.allowShop = allowShop;
+        this.allowBoss = allowBoss;
+        this.matrix = new double[TIER_COUNT][TIER_COUNT];
+        this.shift = new double[TIER_COUNT][TIER_COUNT];
+        this.canShift = new boolean[TIER_COUNT];
+        this.aliasProb = new double[TIER_COUNT][TIER_COUNT];
+        this.alias = new int[TIER_COUNT][TIER_COUNT];
+
+        for (int start = 0; start < TIER_COUNT; start++) {
+            compileRow(start);
+            if (canShift[start]) {
+                buildAlias(shift[start], aliasProb[start], alias[start]);
+            }
+        }
+    }
+
+    /**
+     * Compile the transition table for the given tier settings.
+     *
+     * @param chance      Tier change chance (0-100)
+     * @param magnitude   Tier change magnitude (0-100)
+     * @param allowHigher Whether tiers can shift up (toward Boss)
+     * @param allowLower  Whether tiers can shift down (toward Common)
+     * @param allowShop   Whether the Shop tier is a valid candidate
+     * @param allowBoss   Whether the Boss tier is a valid candidate
+     * @return Compiled table
+     */
+    public static TierTransitionTable compile(int chance, int magnitude, boolean allowHigher, boolean allowLower,
+                                              boolean allowShop, boolean allowBoss) {
+        return new TierTransitionTable(chance, magnitude, allowHigher, allowLower, allowShop, allowBoss);
+    }
+
+    /**
+     * Check whether this table was compiled from the given tier settings.
+     */
+    public boolean matches(int chance, int magnitude, boolean allowHigher, boolean allowLower,
+                           boolean allowShop, boolean allowBoss) {
+        return this.chance == chance
+                && this.magnitude == magnitude
+                && this.allowHigher == allowHigher
+                && this.allowLower == allowLower
+                && this.allowShop == allowShop
+                && this.allowBoss == allowBoss;
+    }
+
+    /**
+     * Tier change chance (0-100) this table was compiled with.
+     */
+    public int getChance() {
+        return chance;
+    }
+
+    /**
+     * Whether at least one shift direction is enabled.
+     */
+    public boolean allowsShift() {
+        return allowHigher || allowLower;
+    }
+
+    /**
+     * Probability that a relic starting at one tier position ends at another.
+     *
+     * @param startPosition  Starting tier position (0-4)
+     * @param resultPosition Resulting tier position (0-4)
+     * @return Probability (0.0-1.0)
+     */
+    public double getProbability(int startPosition, int resultPosition) {
+        return matrix[startPosition][resultPosition];
+    }
+
+    /**
+     * Whether a tier shift from this position has at least one valid candidate.
+     * False when both directions are disabled or every candidate tier is disabled.
+     */
+    public boolean canShift(int startPosition) {
+        return canShift[startPosition];
+    }
+
+    /**
+     * Draw the shifted tier for a starting position, given that variance occurred.
+     * Uses the alias table: one uniform number picks a column and the fractional
+     * part decides between the column and its alias.
+     *
+     * @param startPosition Starting (reference) tier position, must satisfy {@link #canShift(int)}
+     * @param u             Uniform random number in [0, 1)
+     * @return Selected tier position (0-4)
+     */
+    public int sampleShift(int startPosition, double u) {
+        double scaled = u * TIER_COUNT;
+        int column = (int) scaled;
+        if (column >= TIER_COUNT) column = TIER_COUNT - 1;
+        return (scaled - column) < aliasProb[startPosition][column] ? column : alias[startPosition][column];
+    }
+
+    /**
+     * Check if a tier position is a valid shift candidate under this configuration.
+     * Common, Uncommon, Rare are always enabled; Shop and Boss depend on their toggles.
+     */
+    public boolean isTierEnabled(int position) {
+        switch (position) {
+            case 0: // Common
+            case 1: // Uncommon
+            case 2: // Rare
+                return true;
+            case 3: // Shop
+                return allowShop;
+            case 4: // Boss
+                return allowBoss;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Fill one row of the matrix using the direction-first algorithm:
+     * P(tier) = P(variance) * P(direction) * P(tier | direction).
+     */
+    private void compileRow(int start) {
+        double[] row = matrix[start];
+        double[] shiftRow = shift[start];
+
+        int upMaxDistance = allowHigher ? getMaxDistance(start, +1) : 0;
+        int downMaxDistance = allowLower ? getMaxDistance(start, -1) : 0;
+        boolean hasUp = upMaxDistance > 0;
+        boolean hasDown = downMaxDistance > 0;
+
+        // No variance possible - 100% stays at original
+        if (!hasUp && !hasDown) {
+            row[start] = 1.0;
+            return;
+        }
+
+        canShift[start] = true;
+
+        // Both directions: 50/50 split
+        double dirProb = (hasUp && hasDown) ? 0.5 : 1.0;
+        if (hasUp) {
+            addDirection(shiftRow, start, +1, dirProb);
+        }
+        if (hasDown) {
+            addDirection(shiftRow, start, -1, dirProb);
+        }
+
+        double varianceProb = chance / 100.0;
+        for (int pos = 0; pos < TIER_COUNT; pos++) {
+            row[pos] = varianceProb * shiftRow[pos];
+        }
+        row[start] += 1.0 - varianceProb;
+    }
+
+    /**
+     * Build a Walker alias table for a distribution using Vose's method.
+     *
+     * @param probabilities Distribution over tier positions (sums to 1.0)
+     * @param prob          Output: probability of keeping each column
+     * @param aliasOut      Output: alias position for each column
+     */
+    private static void buildAlias(double[] probabilities, double[] prob, int[] aliasOut) {
+        int n = probabilities.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = probabilities[i] * n;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            prob[s] = scaled[s];
+            aliasOut[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+
+        // Leftovers are 1.0 up to rounding error
+        while (largeCount > 0) {
+            int l = large[--largeCount];
+            prob[l] = 1.0;
+            aliasOut[l] = l;
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            prob[s] = 1.0;
+            aliasOut[s] = s;
+        }
+    }
+
+    /**
+     * Distribute a direction's probability mass over its candidates, weighted by magnitude.
+     */
+    private void addDirection(double[] row, int start, int direction, double directionProb) {
+        int distanceMask = 0;
+        for (int pos = start + direction; pos >= 0 && pos < TIER_COUNT; pos += direction) {
+            if (isTierEnabled(pos)) {
+                distanceMask |= 1 << (Math.abs(pos - start) - 1);
+            }
+        }
+
+        for (int pos = start + direction; pos >= 0 && pos < TIER_COUNT; pos += direction) {
+            if (isTierEnabled(pos)) {
+                row[pos] += directionProb * TierMath.normalizedWeight(distanceMask, magnitude, Math.abs(pos - start));
+            }
+        }
+    }
+
+    /**
+     * Distance to the furthest enabled tier in a direction, or 0 if there are none.
+     */
+    private int getMaxDistance(int start, int direction) {
+        int max = 0;
+        for (int pos = start + direction; pos >= 0 && pos < TIER_COUNT; pos += direction) {
+            if (isTierEnabled(pos)) {
+                max = Math.abs(pos - start);
+            }
+        }
+        return max;
+    }
+}
@@ -12,29 +12,38 @@ import basemod.interfaces.PostInitializeSubscriber;
 import com.badlogic.gdx.graphics.Texture;
 import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
 import com.evacipated.cardcrawl.modthespire.lib.SpireInitializer;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.helpers.FontHelper;
-import com.megacrit.cardcrawl.localization.UIStrings;
 import com.megacrit.cardcrawl.helpers.RelicLibrary;
 import com.megacrit.cardcrawl.relics.AbstractRelic;
 import com.megacrit.cardcrawl.rooms.AbstractRoom;
+import pickyrelics.core.PickyRelicsConfig;
+import pickyrelics.core.PreviewPool;
+import pickyrelics.core.PreviewSelector;
+import pickyrelics.core.TierTransitionTable;
 import pickyrelics.patches.RelicLinkPatch;
-import pickyrelics.ui.PagedElement;
+import pickyrelics.ui.PageContainer;
 import pickyrelics.ui.PageNavigator;
+import pickyrelics.ui.PreviewState;
 import pickyrelics.ui.ProbabilityDisplay;
 import pickyrelics.ui.RelicChoicePreview;
+import pickyrelics.util.ConfigWriter;
+import pickyrelics.util.LatestResultWorker;
 import pickyrelics.util.Log;
+import pickyrelics.util.PickyStrings;
 import pickyrelics.util.TierUtils;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
-import java.util.Set;
+import java.util.function.Supplier;
 
 @SpireInitializer
 public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubscriber, PostBattleSubscriber {
@@ -42,16 +51,12 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
     public static final String MOD_ID = "pickyrelics";
     public static final String MOD_NAME = "Picky Relics";
 
-    // Localized strings (loaded in receiveEditStrings)
-    private static UIStrings modInfoStrings;
-    private static UIStrings settingsStrings;
-
     public static String makeID(String id) {
         return MOD_ID + ":" + id;
     }
 
-    // Config
-    private static SpireConfig config;
+    // Config: persisted off the render thread, debounced while sliders are dragged
+    private static ConfigWriter<PickyRelicsConfig> configWriter;
 
     // Config keys
     private static final String CONFIG_SHOW_TIER_LABELS = "showTierLabels";
@@ -100,17 +105,69 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
     public static boolean allowShopRelics = false;   // Include Shop tier in pool
     public static boolean allowBossRelics = false;   // Include Boss tier in pool
 
+    // Immutable snapshot of the settings above, republished whenever they change.
+    // Readers should take one snapshot per computation instead of reading the fields.
+    private static volatile PickyRelicsConfig currentConfig = snapshotSettings(null);
+
     // UI page tracking
     private static final int PAGE_CHOICES = 0;
     private static final int PAGE_ALGORITHMS = 1;
     private static int currentPage = PAGE_CHOICES;
+    private static boolean settingsPanelBuilt = false;
 
-    // Preview state tracking
+    // Preview state tracking: the last requested tier/count, and what is currently shown.
+    // Regeneration runs on a background thread; displayedPreview is only touched on the render thread.
     private static AbstractRelic.RelicTier previewTier = AbstractRelic.RelicTier.COMMON;
     private static int previewChoiceCount = 2;
-    private static List<AbstractRelic> previewRelics = new ArrayList<>();
+    private static boolean previewRequested = false;
+    private static PreviewState displayedPreview =
+            new PreviewState(previewTier, previewChoiceCount, Collections.emptyList());
+    private static final LatestResultWorker<PreviewState> previewWorker =
+            new LatestResultWorker<>("PickyRelics-Preview");
     private static final Random previewRandom = new Random();
     private static final int MAX_PREVIEW_NAME_LENGTH = 12;
+    private static final PreviewSelector<AbstractRelic> previewSelector = new PreviewSelector<>(
+            relic -> relic.relicId,
+            relic -> relic.name.length(),
+            MAX_PREVIEW_NAME_LENGTH);
+    // Name-filtered preview pools per tier, built on first use for the current language
+    private static final Map<AbstractRelic.RelicTier, PreviewPool<AbstractRelic>> previewPools =
+            new EnumMap<>(AbstractRelic.RelicTier.class);
+    private static Settings.GameLanguage previewPoolsLanguage;
+
+    /**
+     * Get the current settings snapshot.
+     * @return Immutable, consistent view of all settings
+     */
+    public static PickyRelicsConfig getConfig() {
+        return currentConfig;
+    }
+
+    /**
+     * Publish a new settings snapshot from the current field values.
+     * Called by saveConfig(), so every slider/toggle callback republishes.
+     * The current snapshot is kept if no value changed.
+     *
+     * @return true if a new snapshot was published
+     */
+    public static boolean publishConfig() {
+        PickyRelicsConfig next = snapshotSettings(currentConfig);
+        if (next.equals(currentConfig)) {
+            return false;
+        }
+        currentConfig = next;
+        return true;
+    }
+
+    private static PickyRelicsConfig snapshotSettings(PickyRelicsConfig previous) {
+        return new PickyRelicsConfig(showTierLabels,
+                starterChoices, commonChoices, uncommonChoices, rareChoices,
+                bossChoices, shopChoices, specialChoices,
+                tierChangeChance, tierChangeMagnitude,
+                allowHigherTiers, allowLowerTiers,
+                allowShopRelics, allowBossRelics,
+                previous);
+    }
 
     public static int getCurrentPage() {
         return currentPage;
@@ -120,20 +177,31 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         currentPage = page;
     }
 
-    public static AbstractRelic.RelicTier getPreviewTier() {
-        return previewTier;
-    }
-
-    public static int getPreviewChoiceCount() {
-        return previewChoiceCount;
+    /**
+     * The preview currently shown. Doesn't poll the background worker, so every reader within
+     * a frame sees the same state; call pollPreview() once per frame to advance it.
+     */
+    public static PreviewState getPreviewState() {
+        return displayedPreview;
     }
 
-    public static List<AbstractRelic> getPreviewRelics() {
-        // Lazy init: if empty but relics are now available, populate
-        if (previewRelics.isEmpty() && !RelicLibrary.commonList.isEmpty()) {
-            previewRelics = selectRandomRelics(previewTier, previewChoiceCount);
+    /**
+     * Pick up a finished background preview, if any. Render thread only, once per frame
+     * (RelicChoicePreview.update()).
+     *
+     * @return The preview to show this frame
+     */
+    public static PreviewState pollPreview() {
+        PreviewState ready = previewWorker.poll();
+        if (ready != null) {
+            displayedPreview = ready;
+        } else if (!previewRequested && !RelicLibrary.commonList.isEmpty()) {
+            // Lazy init: the first preview is generated inline so the panel never opens empty
+            previewRequested = true;
+            displayedPreview = new PreviewState(previewTier, previewChoiceCount,
+                    prepareSelection(previewTier, previewChoiceCount).get());
         }
-        return previewRelics;
+        return displayedPreview;
     }
 
     private static void updatePreview(AbstractRelic.RelicTier tier, int count) {
@@ -143,9 +211,12 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         previewTier = tier;
         previewChoiceCount = count;
 
-        // Only regenerate relics when tier or count actually changes
+        // Only regenerate relics when tier or count actually changes; while dragging,
+        // each request supersedes the previous one and only the newest is shown
         if (tierChanged || countChanged) {
-            previewRelics = selectRandomRelics(tier, count);
+            previewRequested = true;
+            Supplier<List<AbstractRelic>> selection = prepareSelection(tier, count);
+            previewWorker.submit(() -> new PreviewState(tier, count, selection.get()));
         }
     }
 
@@ -162,105 +233,56 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         }
     }
 
-    private static List<AbstractRelic> selectRandomRelics(AbstractRelic.RelicTier tier, int count) {
-        // Special handling for Event tier: first relic from event pool, rest from C/U/R
-        if (tier == AbstractRelic.RelicTier.SPECIAL) {
-            return selectRandomRelicsForEvent(count);
-        }
-
-        List<AbstractRelic> result = new ArrayList<>();
-        Set<String> usedIds = new HashSet<>();  // O(1) duplicate detection
-
-        // First relic always from original tier
-        ArrayList<AbstractRelic> originalPool = getRelicListForTier(tier);
-        if (originalPool.isEmpty()) {
-            return result;
-        }
-        List<AbstractRelic> filteredOriginal = filterByNameLength(originalPool);
-        Collections.shuffle(filteredOriginal, previewRandom);
-        AbstractRelic firstRelic = filteredOriginal.get(0);
-        result.add(firstRelic);
-        usedIds.add(firstRelic.relicId);
-
-        // Additional relics: apply tier modification algorithm
-        for (int i = 1; i < count; i++) {
-            AbstractRelic.RelicTier modifiedTier = calculateModifiedTier(tier, previewRandom);
-            if (modifiedTier == null) {
-                modifiedTier = tier;  // Fallback to original if no valid tier
-            }
-
-            ArrayList<AbstractRelic> pool = getRelicListForTier(modifiedTier);
-            if (pool.isEmpty()) {
-                pool = originalPool;  // Fallback to original pool
-            }
-
-            List<AbstractRelic> filtered = filterByNameLength(pool);
-            Collections.shuffle(filtered, previewRandom);
-
-            // Avoid picking same relic as previous ones if possible
-            AbstractRelic candidate = filtered.get(0);
-            for (AbstractRelic relic : filtered) {
-                if (!usedIds.contains(relic.relicId)) {
-                    candidate = relic;
-                    break;
-                }
-            }
-            result.add(candidate);
-            usedIds.add(candidate.relicId);
-        }
-        return result;
-    }
-
     /**
-     * Select relics for Event tier preview:
-     * - First relic: random from specialList (event relics)
-     * - Additional relics: random from combined Common/Uncommon/Rare pools
+     * Get the name-filtered preview pool for a tier.
+     * Rebuilt only if the language changed or relics were registered since it was built.
      */
-    private static List<AbstractRelic> selectRandomRelicsForEvent(int count) {
-        List<AbstractRelic> result = new ArrayList<>();
-
-        // First relic from event pool
-        ArrayList<AbstractRelic> eventPool = RelicLibrary.specialList;
-        if (!eventPool.isEmpty()) {
-            List<AbstractRelic> filtered = filterByNameLength(eventPool);
-            Collections.shuffle(filtered, previewRandom);
-            result.add(filtered.get(0));
+    private static PreviewPool<AbstractRelic> getPreviewPool(AbstractRelic.RelicTier tier) {
+        if (Settings.language != previewPoolsLanguage) {
+            previewPools.clear();
+            previewPoolsLanguage = Settings.language;
         }
 
-        // Additional relics from C/U/R pools
-        if (count > 1) {
-            List<AbstractRelic> combinedPool = new ArrayList<>();
-            combinedPool.addAll(filterByNameLength(RelicLibrary.commonList));
-            combinedPool.addAll(filterByNameLength(RelicLibrary.uncommonList));
-            combinedPool.addAll(filterByNameLength(RelicLibrary.rareList));
-
-            Collections.shuffle(combinedPool, previewRandom);
-
-            for (int i = 1; i < count && (i - 1) < combinedPool.size(); i++) {
-                result.add(combinedPool.get(i - 1));
-            }
+        ArrayList<AbstractRelic> source = getRelicListForTier(tier);
+        PreviewPool<AbstractRelic> pool = previewPools.get(tier);
+        if (pool == null || !pool.matches(source)) {
+            pool = previewSelector.prefilter(source);
+            previewPools.put(tier, pool);
         }
-
-        return result;
+        return pool;
     }
 
     /**
-     * Filter relics to those with short names for preview display.
-     * Falls back to unfiltered list if no short names available.
+     * Resolve everything a preview selection needs from game state, and return the selection
+     * itself. Call on the render thread; the returned supplier only reads immutable pools and
+     * the config snapshot, so it can run on any thread.
      */
-    private static List<AbstractRelic> filterByNameLength(ArrayList<AbstractRelic> pool) {
-        List<AbstractRelic> filtered = new ArrayList<>();
-        for (AbstractRelic relic : pool) {
-            if (relic.name.length() <= MAX_PREVIEW_NAME_LENGTH) {
-                filtered.add(relic);
-            }
+    private static Supplier<List<AbstractRelic>> prepareSelection(AbstractRelic.RelicTier tier, int count) {
+        // Special handling for Event tier: first relic from event pool, rest from C/U/R
+        if (tier == AbstractRelic.RelicTier.SPECIAL) {
+            PreviewPool<AbstractRelic> eventPool = getPreviewPool(AbstractRelic.RelicTier.SPECIAL);
+            PreviewPool<AbstractRelic> commonPool = getPreviewPool(AbstractRelic.RelicTier.COMMON);
+            PreviewPool<AbstractRelic> uncommonPool = getPreviewPool(AbstractRelic.RelicTier.UNCOMMON);
+            PreviewPool<AbstractRelic> rarePool = getPreviewPool(AbstractRelic.RelicTier.RARE);
+            return () -> previewSelector.selectForEvent(
+                    eventPool, commonPool, uncommonPool, rarePool, count, previewRandom);
         }
 
-        // Fall back to unfiltered if no short names available
-        if (filtered.isEmpty()) {
-            filtered = new ArrayList<>(pool);
+        PreviewPool<AbstractRelic> originalPool = getPreviewPool(tier);
+        List<PreviewPool<AbstractRelic>> poolsByPosition = new ArrayList<>(TierTransitionTable.TIER_COUNT);
+        for (int position = 0; position < TierTransitionTable.TIER_COUNT; position++) {
+            poolsByPosition.add(getPreviewPool(TierUtils.getTierFromPosition(position)));
         }
-        return filtered;
+        TierTransitionTable table = getConfig().getTransitionTable();
+        int referencePosition = TierUtils.getTierPosition(tier);
+
+        return () -> previewSelector.select(
+                originalPool,
+                referencePosition,
+                count,
+                poolsByPosition::get,
+                table,
+                previewRandom);
     }
 
     // ===== Tier Calculation Utilities (delegating to TierUtils) =====
@@ -295,21 +317,31 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
      * @return Number of choices (1-5) for that tier
      */
     public static int getChoicesForTier(AbstractRelic.RelicTier tier) {
+        return getChoicesForTier(getConfig(), tier);
+    }
+
+    /**
+     * Get the choice count for a given relic tier from a specific settings snapshot.
+     * @param config Settings snapshot
+     * @param tier The relic tier
+     * @return Number of choices (1-5) for that tier
+     */
+    public static int getChoicesForTier(PickyRelicsConfig config, AbstractRelic.RelicTier tier) {
         switch (tier) {
             case STARTER:
-                return starterChoices;
+                return config.starterChoices;
             case COMMON:
-                return commonChoices;
+                return config.commonChoices;
             case UNCOMMON:
-                return uncommonChoices;
+                return config.uncommonChoices;
             case RARE:
-                return rareChoices;
+                return config.rareChoices;
             case BOSS:
-                return bossChoices;
+                return config.bossChoices;
             case SHOP:
-                return shopChoices;
+                return config.shopChoices;
             case SPECIAL:
-                return specialChoices;
+                return config.specialChoices;
             default:
                 return 1; // DEPRECATED or unknown - no extra choices
         }
@@ -343,7 +375,7 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
             defaults.setProperty(CONFIG_ALLOW_SHOP_RELICS, "false");
             defaults.setProperty(CONFIG_ALLOW_BOSS_RELICS, "false");
 
-            config = new SpireConfig(MOD_ID, "config", defaults);
+            SpireConfig config = new SpireConfig(MOD_ID, "config", defaults);
 
             showTierLabels = config.getBool(CONFIG_SHOW_TIER_LABELS);
             starterChoices = clamp(config.getInt(CONFIG_STARTER_CHOICES), 1, 5);
@@ -391,66 +423,53 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
                 allowBossRelics = config.getBool(CONFIG_ALLOW_BOSS_RELICS);
             }
 
-            Log.debug("Config loaded: showTierLabels=" + showTierLabels +
-                    ", starter=" + starterChoices + ", common=" + commonChoices +
-                    ", uncommon=" + uncommonChoices + ", rare=" + rareChoices +
-                    ", boss=" + bossChoices + ", shop=" + shopChoices + ", special=" + specialChoices +
-                    ", tierChangeChance=" + tierChangeChance + ", tierChangeMagnitude=" + tierChangeMagnitude +
-                    ", allowHigher=" + allowHigherTiers + ", allowLower=" + allowLowerTiers +
-                    ", allowShop=" + allowShopRelics + ", allowBoss=" + allowBossRelics);
+            publishConfig();
+            Log.debug("Config loaded: {}", getConfig());
         } catch (IOException e) {
             Log.error("Failed to load config", e);
         }
+
+        configWriter = new ConfigWriter<>(Paths.get(SpireConfig.makeFilePath(MOD_ID, "config")),
+                PickyRelicsMod::toProperties);
     }
 
     private static int clamp(int value, int min, int max) {
         return Math.max(min, Math.min(max, value));
     }
 
+    /**
+     * Publish the current settings and queue them for writing.
+     * Returns immediately; the file is written in the background once changes settle.
+     */
     public static void saveConfig() {
-        try {
-            config.setBool(CONFIG_SHOW_TIER_LABELS, showTierLabels);
-            config.setInt(CONFIG_STARTER_CHOICES, starterChoices);
-            config.setInt(CONFIG_COMMON_CHOICES, commonChoices);
-            config.setInt(CONFIG_UNCOMMON_CHOICES, uncommonChoices);
-            config.setInt(CONFIG_RARE_CHOICES, rareChoices);
-            config.setInt(CONFIG_BOSS_CHOICES, bossChoices);
-            config.setInt(CONFIG_SHOP_CHOICES, shopChoices);
-            config.setInt(CONFIG_SPECIAL_CHOICES, specialChoices);
-            config.setInt(CONFIG_TIER_CHANGE_CHANCE, tierChangeChance);
-            config.setInt(CONFIG_TIER_CHANGE_MAGNITUDE, tierChangeMagnitude);
-            config.setBool(CONFIG_ALLOW_HIGHER_TIERS, allowHigherTiers);
-            config.setBool(CONFIG_ALLOW_LOWER_TIERS, allowLowerTiers);
-            config.setBool(CONFIG_ALLOW_SHOP_RELICS, allowShopRelics);
-            config.setBool(CONFIG_ALLOW_BOSS_RELICS, allowBossRelics);
-            config.save();
-        } catch (IOException e) {
-            Log.error("Failed to save config", e);
+        if (publishConfig() && configWriter != null) {
+            configWriter.schedule(getConfig());
         }
     }
 
-    private static final String DEFAULT_LANGUAGE = "eng";
+    private static Properties toProperties(PickyRelicsConfig c) {
+        Properties p = new Properties();
+        p.setProperty(CONFIG_SHOW_TIER_LABELS, Boolean.toString(c.showTierLabels));
+        p.setProperty(CONFIG_STARTER_CHOICES, Integer.toString(c.starterChoices));
+        p.setProperty(CONFIG_COMMON_CHOICES, Integer.toString(c.commonChoices));
+        p.setProperty(CONFIG_UNCOMMON_CHOICES, Integer.toString(c.uncommonChoices));
+        p.setProperty(CONFIG_RARE_CHOICES, Integer.toString(c.rareChoices));
+        p.setProperty(CONFIG_BOSS_CHOICES, Integer.toString(c.bossChoices));
+        p.setProperty(CONFIG_SHOP_CHOICES, Integer.toString(c.shopChoices));
+        p.setProperty(CONFIG_SPECIAL_CHOICES, Integer.toString(c.specialChoices));
+        p.setProperty(CONFIG_TIER_CHANGE_CHANCE, Integer.toString(c.tierChangeChance));
+        p.setProperty(CONFIG_TIER_CHANGE_MAGNITUDE, Integer.toString(c.tierChangeMagnitude));
+        p.setProperty(CONFIG_ALLOW_HIGHER_TIERS, Boolean.toString(c.allowHigherTiers));
+        p.setProperty(CONFIG_ALLOW_LOWER_TIERS, Boolean.toString(c.allowLowerTiers));
+        p.setProperty(CONFIG_ALLOW_SHOP_RELICS, Boolean.toString(c.allowShopRelics));
+        p.setProperty(CONFIG_ALLOW_BOSS_RELICS, Boolean.toString(c.allowBossRelics));
+        return p;
+    }
 
     @Override
     public void receiveEditStrings() {
-        // Always load English first as fallback
-        loadLocalization(DEFAULT_LANGUAGE);
-
-        // Then try to load current language on top (overwrites English where available)
-        String lang = Settings.language.name().toLowerCase();
-        if (!DEFAULT_LANGUAGE.equals(lang)) {
-            try {
-                loadLocalization(lang);
-                Log.info("Loaded localization for language: " + lang);
-            } catch (Exception e) {
-                Log.info("No localization for " + lang + ", using English");
-            }
-        }
-    }
-
-    private void loadLocalization(String lang) {
-        BaseMod.loadCustomStringsFile(UIStrings.class,
-                MOD_ID + "Resources/localization/" + lang + "/UIStrings.json");
+        // English merged with the current language in one pass, registered once
+        PickyStrings.load(Settings.language.name().toLowerCase());
     }
 
     @Override
@@ -462,24 +481,44 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
 
     @Override
     public void receivePostInitialize() {
-        Log.info(MOD_NAME + " post-initialize");
-
-        // Load localized strings
-        modInfoStrings = CardCrawlGame.languagePack.getUIString(makeID("ModInfo"));
-        settingsStrings = CardCrawlGame.languagePack.getUIString(makeID("Settings"));
+        long startNanos = System.nanoTime();
 
         Texture badgeTexture = createBadgeTexture();
-        ModPanel settingsPanel = new ModPanel();
+        // Panel contents are built the first time Mod Settings is opened; most sessions never open it
+        ModPanel settingsPanel = new ModPanel(PickyRelicsMod::buildSettingsPanel);
+
+        BaseMod.registerModBadge(
+                badgeTexture,
+                PickyStrings.MOD_INFO[0],
+                PickyStrings.MOD_INFO[1],
+                PickyStrings.MOD_INFO[2],
+                settingsPanel
+        );
+
+        Log.info(MOD_NAME + " post-initialize took " + elapsedMillis(startNanos) + " ms (settings panel deferred)");
+    }
+
+    /**
+     * Build the settings panel contents. BaseMod calls this every time the panel opens,
+     * so it only does the work once.
+     */
+    private static void buildSettingsPanel(ModPanel settingsPanel) {
+        if (settingsPanelBuilt) return;
+        settingsPanelBuilt = true;
+        long startNanos = System.nanoTime();
 
         float xPos = 380.0f;
         float sliderX = xPos + 220.0f;
         float sliderYOffset = 6.0f;
         float rowHeight = 42.0f;
 
+        // Page elements live in one container that only forwards to the current page
+        PageContainer pages = new PageContainer(2, PickyRelicsMod::getCurrentPage);
+
         // Page navigator at the top (centered)
         float navY = 820.0f;
         float navCenterX = 640.0f;
-        settingsPanel.addUIElement(new PageNavigator(2, navCenterX, navY,
+        settingsPanel.addUIElement(new PageNavigator(pages.getPageCount(), navCenterX, navY,
                 PickyRelicsMod::getCurrentPage, PickyRelicsMod::setCurrentPage));
 
         float contentY = navY - 60.0f;
@@ -488,8 +527,8 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         float yPos = contentY;
 
         // Explanation
-        addPagedElement(settingsPanel, PAGE_CHOICES, new ModLabel(
-                settingsStrings.TEXT[0],
+        pages.add(PAGE_CHOICES, new ModLabel(
+                PickyStrings.SETTINGS[0],
                 xPos, yPos,
                 Settings.GOLD_COLOR,
                 FontHelper.tipBodyFont,
@@ -500,43 +539,43 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         yPos -= 40.0f;
 
         // Starter tier slider
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Starter (" + RelicLibrary.starterList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Starter (" + RelicLibrary.starterList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, starterChoices,
                 (val) -> { starterChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.STARTER, val); });
         yPos -= rowHeight;
 
         // Common tier slider
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Common (" + RelicLibrary.commonList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Common (" + RelicLibrary.commonList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, commonChoices,
                 (val) -> { commonChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.COMMON, val); });
         yPos -= rowHeight;
 
         // Uncommon tier slider
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Uncommon (" + RelicLibrary.uncommonList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Uncommon (" + RelicLibrary.uncommonList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, uncommonChoices,
                 (val) -> { uncommonChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.UNCOMMON, val); });
         yPos -= rowHeight;
 
         // Rare tier slider
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Rare (" + RelicLibrary.rareList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Rare (" + RelicLibrary.rareList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, rareChoices,
                 (val) -> { rareChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.RARE, val); });
         yPos -= rowHeight;
 
         // Shop tier slider
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Shop (" + RelicLibrary.shopList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Shop (" + RelicLibrary.shopList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, shopChoices,
                 (val) -> { shopChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.SHOP, val); });
         yPos -= rowHeight;
 
         // Event tier slider (Special tier in game code)
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Event (" + RelicLibrary.specialList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Event (" + RelicLibrary.specialList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, specialChoices,
                 (val) -> { specialChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.SPECIAL, val); });
         yPos -= rowHeight;
 
         // Boss tier slider
-        addPagedSliderRow(settingsPanel, PAGE_CHOICES, "Boss (" + RelicLibrary.bossList.size() + ")",
+        addPagedSliderRow(settingsPanel, pages, PAGE_CHOICES, "Boss (" + RelicLibrary.bossList.size() + ")",
                 xPos, sliderX, yPos, sliderYOffset, bossChoices,
                 (val) -> { bossChoices = val; saveConfig(); updatePreview(AbstractRelic.RelicTier.BOSS, val); });
         yPos -= rowHeight;
@@ -544,17 +583,15 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         // Visual preview on right side
         float previewX = 1100.0f;
         float previewY = contentY - 60.0f;
-        addPagedElement(settingsPanel, PAGE_CHOICES, new RelicChoicePreview(
+        pages.add(PAGE_CHOICES, new RelicChoicePreview(
                 previewX, previewY,
-                PickyRelicsMod::getPreviewTier,
-                PickyRelicsMod::getPreviewChoiceCount,
-                PickyRelicsMod::getPreviewRelics
+                PickyRelicsMod::pollPreview
         ));
 
         // Show tier labels checkbox
         yPos -= 30.0f;
-        addPagedElement(settingsPanel, PAGE_CHOICES, new ModLabeledToggleButton(
-                settingsStrings.TEXT[1],
+        pages.add(PAGE_CHOICES, new ModLabeledToggleButton(
+                PickyStrings.SETTINGS[1],
                 xPos, yPos,
                 Settings.CREAM_COLOR,
                 FontHelper.tipHeaderFont,
@@ -567,22 +604,23 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         // Event tier explanation text (shown when Event slider is active with count > 1)
         float eventTextX = xPos;
         float eventTextY = yPos - 50.0f;
-        addPagedElement(settingsPanel, PAGE_CHOICES, new IUIElement() {
+        pages.add(PAGE_CHOICES, new IUIElement() {
             @Override
             public void render(com.badlogic.gdx.graphics.g2d.SpriteBatch sb) {
-                if (previewTier == AbstractRelic.RelicTier.SPECIAL && previewChoiceCount > 1) {
+                PreviewState preview = getPreviewState();
+                if (preview.tier == AbstractRelic.RelicTier.SPECIAL && preview.count > 1) {
                     float scaledX = eventTextX * Settings.scale;
                     float scaledY = eventTextY * Settings.scale;
                     float lineSpacing = 20.0f * Settings.scale;
 
                     FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
-                            settingsStrings.TEXT[2],
+                            PickyStrings.SETTINGS[2],
                             scaledX, scaledY, Settings.GOLD_COLOR);
                     FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
-                            settingsStrings.TEXT[3],
+                            PickyStrings.SETTINGS[3],
                             scaledX, scaledY - lineSpacing, Settings.GOLD_COLOR);
                     FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
-                            settingsStrings.TEXT[4],
+                            PickyStrings.SETTINGS[4],
                             scaledX, scaledY - lineSpacing * 2, Settings.GOLD_COLOR);
                 }
             }
@@ -601,14 +639,14 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         yPos = contentY;
 
         // Tier change chance slider (0-100%)
-        addPagedSliderRow(settingsPanel, PAGE_ALGORITHMS, settingsStrings.TEXT[5], xPos, sliderX + 210.0f, yPos, sliderYOffset,
+        addPagedSliderRow(settingsPanel, pages, PAGE_ALGORITHMS, PickyStrings.SETTINGS[5], xPos, sliderX + 210.0f, yPos, sliderYOffset,
                 tierChangeChance, 0.0f, 100.0f, "%.0f%%",
                 (val) -> { tierChangeChance = val; saveConfig(); });
 
         yPos -= rowHeight;
 
         // Magnitude of change slider (0-100%)
-        addPagedSliderRow(settingsPanel, PAGE_ALGORITHMS, settingsStrings.TEXT[10], xPos, sliderX + 210.0f, yPos, sliderYOffset,
+        addPagedSliderRow(settingsPanel, pages, PAGE_ALGORITHMS, PickyStrings.SETTINGS[10], xPos, sliderX + 210.0f, yPos, sliderYOffset,
                 tierChangeMagnitude, 0.0f, 100.0f, "%.0f%%",
                 (val) -> { tierChangeMagnitude = val; saveConfig(); });
 
@@ -617,8 +655,8 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         float checkboxX = xPos + 20.0f;
 
         // Tier direction checkboxes
-        addPagedElement(settingsPanel, PAGE_ALGORITHMS, new ModLabeledToggleButton(
-                settingsStrings.TEXT[6],
+        pages.add(PAGE_ALGORITHMS, new ModLabeledToggleButton(
+                PickyStrings.SETTINGS[6],
                 checkboxX, yPos,
                 Settings.CREAM_COLOR,
                 FontHelper.tipBodyFont,
@@ -630,8 +668,8 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
 
         yPos -= 35.0f;
 
-        addPagedElement(settingsPanel, PAGE_ALGORITHMS, new ModLabeledToggleButton(
-                settingsStrings.TEXT[7],
+        pages.add(PAGE_ALGORITHMS, new ModLabeledToggleButton(
+                PickyStrings.SETTINGS[7],
                 checkboxX, yPos,
                 Settings.CREAM_COLOR,
                 FontHelper.tipBodyFont,
@@ -644,8 +682,8 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         yPos -= 50.0f;
 
         // Shop/Boss relic section
-        addPagedElement(settingsPanel, PAGE_ALGORITHMS, new ModLabeledToggleButton(
-                settingsStrings.TEXT[8],
+        pages.add(PAGE_ALGORITHMS, new ModLabeledToggleButton(
+                PickyStrings.SETTINGS[8],
                 checkboxX, yPos,
                 Settings.CREAM_COLOR,
                 FontHelper.tipBodyFont,
@@ -657,8 +695,8 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
 
         yPos -= 35.0f;
 
-        addPagedElement(settingsPanel, PAGE_ALGORITHMS, new ModLabeledToggleButton(
-                settingsStrings.TEXT[9],
+        pages.add(PAGE_ALGORITHMS, new ModLabeledToggleButton(
+                PickyStrings.SETTINGS[9],
                 checkboxX, yPos,
                 Settings.CREAM_COLOR,
                 FontHelper.tipBodyFont,
@@ -669,33 +707,29 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
         ));
 
         // Probability simulator display (right side of Algorithms page)
-        addPagedElement(settingsPanel, PAGE_ALGORITHMS, new ProbabilityDisplay(850.0f, contentY - 72.0f));
+        pages.add(PAGE_ALGORITHMS, new ProbabilityDisplay(850.0f, contentY - 72.0f));
 
-        BaseMod.registerModBadge(
-                badgeTexture,
-                modInfoStrings.TEXT[0],
-                modInfoStrings.TEXT[1],
-                modInfoStrings.TEXT[2],
-                settingsPanel
-        );
+        settingsPanel.addUIElement(pages);
+
+        Log.info("Settings panel built on first open in " + elapsedMillis(startNanos) + " ms");
     }
 
-    private void addPagedElement(ModPanel panel, int page, IUIElement element) {
-        panel.addUIElement(new PagedElement(element, page, PickyRelicsMod::getCurrentPage));
+    private static String elapsedMillis(long startNanos) {
+        return String.format(Locale.ROOT, "%.2f", (System.nanoTime() - startNanos) / 1_000_000.0);
     }
 
-    private void addPagedSliderRow(ModPanel panel, int page, String label, float labelX, float sliderX,
-                                   float yPos, float sliderYOffset, int currentValue,
+    private static void addPagedSliderRow(ModPanel panel, PageContainer pages, int page, String label,
+                                   float labelX, float sliderX, float yPos, float sliderYOffset, int currentValue,
                                    java.util.function.IntConsumer onChange) {
-        addPagedSliderRow(panel, page, label, labelX, sliderX, yPos, sliderYOffset,
+        addPagedSliderRow(panel, pages, page, label, labelX, sliderX, yPos, sliderYOffset,
                 currentValue, 1.0f, 5.0f, "%.0f", onChange);
     }
 
-    private void addPagedSliderRow(ModPanel panel, int page, String label, float labelX, float sliderX,
-                                   float yPos, float sliderYOffset, int currentValue,
+    private static void addPagedSliderRow(ModPanel panel, PageContainer pages, int page, String label,
+                                   float labelX, float sliderX, float yPos, float sliderYOffset, int currentValue,
                                    float min, float max, String format,
                                    java.util.function.IntConsumer onChange) {
-        addPagedElement(panel, page, new ModLabel(
+        pages.add(page, new ModLabel(
                 label,
                 labelX, yPos,
                 Settings.CREAM_COLOR,
@@ -704,7 +738,7 @@ public class PickyRelicsMod implements PostInitializeSubscriber, EditStringsSubs
                 (l) -> {}
         ));
 
-        addPagedElement(panel, page, new ModMinMaxSlider(
+        pages.add(page, new ModMinMaxSlider(
                 "",
                 sliderX, yPos + sliderYOffset,
                 min, max, (float) currentValue,
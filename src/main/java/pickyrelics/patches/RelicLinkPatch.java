@@ -1,25 +1,32 @@
 package pickyrelics.patches;
 
-import basemod.ReflectionHacks;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.evacipated.cardcrawl.modthespire.lib.*;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.helpers.FontHelper;
 import com.megacrit.cardcrawl.helpers.TipHelper;
 import com.megacrit.cardcrawl.helpers.input.InputHelper;
-import com.megacrit.cardcrawl.localization.UIStrings;
 import com.megacrit.cardcrawl.relics.AbstractRelic;
 import com.megacrit.cardcrawl.rewards.RewardItem;
 import com.megacrit.cardcrawl.screens.CombatRewardScreen;
 import pickyrelics.PickyRelicsMod;
+import pickyrelics.core.PickyRelicsConfig;
+import pickyrelics.ui.TierLabelCache;
 import pickyrelics.util.Log;
-import pickyrelics.util.TierUtils;
-
+import pickyrelics.util.PickyStrings;
+import pickyrelics.util.RelicGroup;
+import pickyrelics.util.RelicRewardPlanner;
+import pickyrelics.util.RelicRewardState;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Patches to link relic rewards together so claiming one removes the others.
@@ -27,300 +34,220 @@ import java.util.List;
  */
 public class RelicLinkPatch {
 
-    // Lazy-loaded localized strings for tooltips
-    private static UIStrings tooltipStrings;
-    private static String[] TEXT;
-
-    private static void ensureStringsLoaded() {
-        if (tooltipStrings == null) {
-            tooltipStrings = CardCrawlGame.languagePack.getUIString(PickyRelicsMod.makeID("Tooltip"));
-            TEXT = tooltipStrings.TEXT;
-        }
-    }
+    // Localized strings, filled once by PickyStrings.load()
+    private static final String[] TEXT = PickyStrings.TOOLTIP;
 
     /**
-     * Add SpireFields to RewardItem to track linked relics and ownership.
+     * Add a SpireField to RewardItem to track linked relics and ownership.
      */
     @SpirePatch(clz = RewardItem.class, method = SpirePatch.CLASS)
     public static class RelicLinkFields {
-        // The group of linked relics (all share the same ArrayList reference)
-        public static SpireField<ArrayList<RewardItem>> linkedRelics = new SpireField<>(() -> null);
-        // Whether this reward was added by Picky Relics (not the original game/other mods)
-        public static SpireField<Boolean> addedByPickyRelics = new SpireField<>(() -> false);
-        // The original relicLink that existed before we modified the chain (e.g., Sapphire Key)
-        public static SpireField<RewardItem> originalRelicLink = new SpireField<>(() -> null);
-        // Whether this reward was processed during the PostBattle phase (to avoid double-processing)
-        public static SpireField<Boolean> processedInPostBattle = new SpireField<>(() -> false);
+        // All Picky Relics state for this reward (group and index, ownership, original link)
+        public static SpireField<RelicRewardState> state = new SpireField<>(() -> null);
     }
 
     /**
-     * Calculate a potentially modified tier using game's seeded RNG.
-     * Wrapper around TierUtils.calculateModifiedTier with game-specific RNG.
-     */
-    private static AbstractRelic.RelicTier calculateModifiedTier(AbstractRelic.RelicTier originalTier) {
-        return TierUtils.calculateModifiedTier(
-                originalTier,
-                chance -> AbstractDungeon.relicRng.randomBoolean(chance / 100.0f) ? 1 : 0,
-                () -> (double) AbstractDungeon.relicRng.random()
-        );
-    }
-
-    /**
-     * Get the ordered list of fallback tiers for a given tier when the pool is exhausted.
-     * Uses a cascade approach: try adjacent tiers first, then expand.
-     *
-     * @param tier The original tier that was exhausted
-     * @return Array of tiers to try in order
+     * Get a reward's state, creating it on first use.
      */
-    private static AbstractRelic.RelicTier[] getFallbackTiers(AbstractRelic.RelicTier tier) {
-        switch (tier) {
-            case COMMON:
-                return new AbstractRelic.RelicTier[] {
-                    AbstractRelic.RelicTier.UNCOMMON,
-                    AbstractRelic.RelicTier.RARE
-                };
-            case UNCOMMON:
-                return new AbstractRelic.RelicTier[] {
-                    AbstractRelic.RelicTier.COMMON,
-                    AbstractRelic.RelicTier.RARE
-                };
-            case RARE:
-                return new AbstractRelic.RelicTier[] {
-                    AbstractRelic.RelicTier.UNCOMMON,
-                    AbstractRelic.RelicTier.COMMON
-                };
-            case BOSS:
-            case SHOP:
-            case STARTER:
-            default:
-                // For non-standard tiers, try Common -> Uncommon -> Rare
-                return new AbstractRelic.RelicTier[] {
-                    AbstractRelic.RelicTier.COMMON,
-                    AbstractRelic.RelicTier.UNCOMMON,
-                    AbstractRelic.RelicTier.RARE
-                };
+    private static RelicRewardState getOrCreateState(RewardItem reward) {
+        RelicRewardState state = RelicLinkFields.state.get(reward);
+        if (state == null) {
+            state = new RelicRewardState();
+            RelicLinkFields.state.set(reward, state);
         }
+        return state;
     }
 
     /**
-     * Get a random relic from the specified tier, with fallback to other tiers
-     * if the pool is exhausted (returns Circlet) or all relics fail canSpawn().
-     *
-     * @param tier The preferred tier
-     * @return A relic from the preferred tier or a fallback tier, or Circlet if all exhausted
-     */
-    private static AbstractRelic getRelicWithFallback(AbstractRelic.RelicTier tier) {
-        final int MAX_ATTEMPTS = 10; // Prevent infinite loops
-
-        // Try the requested tier first
-        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
-            AbstractRelic relic = AbstractDungeon.returnRandomRelic(tier);
-
-            // Pool exhausted - try fallbacks
-            if ("Circlet".equals(relic.relicId)) {
-                break;
-            }
-
-            // Check if relic can spawn (respects filtering mods)
-            if (relic.canSpawn()) {
-                return relic;
-            }
-
-            Log.debug("Picky Relics: Skipping " + relic.relicId + " (canSpawn=false)");
-        }
-
-        Log.debug("Picky Relics: " + tier + " pool exhausted or all blocked, trying fallback tiers");
-
-        // Get fallback order based on tier
-        AbstractRelic.RelicTier[] fallbacks = getFallbackTiers(tier);
-
-        for (AbstractRelic.RelicTier fallbackTier : fallbacks) {
-            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
-                AbstractRelic relic = AbstractDungeon.returnRandomRelic(fallbackTier);
-
-                if ("Circlet".equals(relic.relicId)) {
-                    break; // This tier exhausted, try next
-                }
-
-                if (relic.canSpawn()) {
-                    Log.debug("Picky Relics: Using fallback tier " + fallbackTier);
-                    return relic;
-                }
-
-                Log.debug("Picky Relics: Skipping " + relic.relicId + " (canSpawn=false)");
-            }
-        }
-
-        // All pools exhausted or blocked
-        Log.debug("Picky Relics: All fallback tiers exhausted");
-        return AbstractDungeon.returnRandomRelic(tier); // Will return Circlet
-    }
-
-    /**
-     * Check if this rewards list is AbstractRoom.rewards (vs CombatRewardScreen.rewards).
-     * PostBattle adds to AbstractRoom.rewards, so BaseMod handles positioning automatically.
-     * setupItemReward patch adds to CombatRewardScreen.rewards, so we need manual positioning.
-     *
-     * @param rewards The rewards list to check
-     * @return true if this is AbstractRoom.rewards, false otherwise
-     */
-    private static boolean isInAbstractRoomRewards(ArrayList<RewardItem> rewards) {
-        return AbstractDungeon.getCurrRoom() != null &&
-               AbstractDungeon.getCurrRoom().rewards == rewards;
-    }
-
-    /**
-     * Select a random relic from C/U/R pools.
-     * Used for additional event relic choices since event relics have special requirements.
+     * Get the linked group a reward belongs to.
      *
-     * @return A relic from C/U/R pools, or null if all pools exhausted
+     * @return The group, or null if the reward isn't linked
      */
-    private static AbstractRelic getRandomNonEventRelic() {
-        final int MAX_ATTEMPTS = 10; // Prevent infinite loops
-
-        // Standard tiers to try for event relic alternatives
-        List<AbstractRelic.RelicTier> tiers = new ArrayList<>();
-        tiers.add(AbstractRelic.RelicTier.COMMON);
-        tiers.add(AbstractRelic.RelicTier.UNCOMMON);
-        tiers.add(AbstractRelic.RelicTier.RARE);
-
-        // Randomly pick starting tier for fairness
-        int startIndex = AbstractDungeon.relicRng.random(tiers.size() - 1);
-
-        // Try each tier in random order
-        for (int i = 0; i < tiers.size(); i++) {
-            AbstractRelic.RelicTier tierToTry = tiers.get((startIndex + i) % tiers.size());
-
-            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
-                AbstractRelic relic = AbstractDungeon.returnRandomRelic(tierToTry);
-
-                if ("Circlet".equals(relic.relicId)) {
-                    break; // This tier exhausted
-                }
-
-                if (relic.canSpawn()) {
-                    return relic;
-                }
-
-                Log.debug("Picky Relics: Skipping event relic " + relic.relicId + " (canSpawn=false)");
-            }
-        }
-
-        // All pools exhausted
-        Log.debug("Picky Relics: All pools exhausted for event relic");
-        return null;
+    public static RelicGroup getGroup(RewardItem reward) {
+        RelicRewardState state = RelicLinkFields.state.get(reward);
+        return state != null ? state.group : null;
     }
 
     /**
      * Render tier label in bottom-right corner of reward item.
+     * Text, color and width come from TierLabelCache, so steady frames allocate nothing
+     * and skip glyph layout.
      */
     private static void renderTierLabel(RewardItem reward, SpriteBatch sb) {
-        if (!PickyRelicsMod.showTierLabels) return;
+        if (!PickyRelicsMod.getConfig().showTierLabels) return;
 
-        String tierText = TierUtils.getTierDisplayText(reward.relic.tier);
+        TierLabelCache.validate();
+        AbstractRelic.RelicTier tier = reward.relic.tier;
+        String tierText = TierLabelCache.getText(tier);
         if (tierText.isEmpty()) return;
 
-        Color tierColor = TierUtils.getTierColor(reward.relic.tier);
-        // Reduce brightness by 10% for subtler appearance
-        Color dimmedColor = tierColor.cpy();
-        dimmedColor.r *= 0.9F;
-        dimmedColor.g *= 0.9F;
-        dimmedColor.b *= 0.9F;
-
-        // Position at right edge of the reward hitbox (with small margin)
+        // Position at right edge of the reward hitbox (with small margin), right-aligned
         float x = reward.hb.x + reward.hb.width - 15.0F * Settings.scale;
-        float y = reward.hb.y + 18.0F * Settings.scale + FontHelper.tipBodyFont.getLineHeight() * 0.2F;
-
-        // Calculate text width for right-aligned rendering
-        FontHelper.layout.setText(FontHelper.tipBodyFont, tierText);
-        float textX = x - FontHelper.layout.width;
+        float y = reward.hb.y + 18.0F * Settings.scale + TierLabelCache.getLineHeight() * 0.2F;
+        float textX = x - TierLabelCache.getWidth(tier);
 
         // Render text without shadow
-        FontHelper.tipBodyFont.setColor(dimmedColor);
+        FontHelper.tipBodyFont.setColor(TierLabelCache.getColor(tier));
         FontHelper.tipBodyFont.draw(sb, tierText, textX, y);
     }
 
     /**
      * Create a linked group of relic rewards for the given original relic.
      * Generates additional relics of the same tier, inserts them after the original,
-     * marks them as added by Picky Relics, and links them all together.
+     * marks them as added by Picky Relics, links them all together and positions them
+     * (unless the list is AbstractRoom.rewards, which setupItemReward() lays out).
+     * Does nothing if the original isn't in the rewards list.
      *
      * @param rewards    The rewards list to modify
      * @param original   The original relic reward to build a group around
      * @param numChoices Total number of relics in the group (including original)
      */
     public static void createLinkedRelicGroup(ArrayList<RewardItem> rewards, RewardItem original, int numChoices) {
-        // Save the original relicLink before we modify the chain (e.g., Sapphire Key)
-        // Only save if we haven't already (handles refresh case)
-        if (RelicLinkFields.originalRelicLink.get(original) == null && original.relicLink != null) {
-            RelicLinkFields.originalRelicLink.set(original, original.relicLink);
+        createLinkedRelicGroup(rewards, original, numChoices, PickyRelicsMod.getConfig());
+    }
+
+    /**
+     * Create a linked group of relic rewards using a specific settings snapshot.
+     *
+     * @param rewards    The rewards list to modify
+     * @param original   The original relic reward to build a group around
+     * @param numChoices Total number of relics in the group (including original)
+     * @param config     Settings snapshot used for every tier roll in the group
+     */
+    public static void createLinkedRelicGroup(ArrayList<RewardItem> rewards, RewardItem original, int numChoices,
+                                              PickyRelicsConfig config) {
+        ArrayList<RewardItem> originals = new ArrayList<>(1);
+        originals.add(original);
+        List<RewardItem> added = createLinkedRelicGroups(rewards, originals, new int[] { numChoices }, config);
+
+        // Only manually position if we're NOT in AbstractRoom.rewards, which gets
+        // auto-positioned by setupItemReward()
+        if (!added.isEmpty() && !isInAbstractRoomRewards(rewards)) {
+            // The extras were spliced in directly after the original, in order
+            int index = rewards.indexOf(original);
+            for (RewardItem newReward : added) {
+                index++;
+                float yPos = (float)Settings.HEIGHT / 2.0F + 124.0F * Settings.scale
+                             - (float)index * 100.0F * Settings.scale;
+                newReward.move(yPos);
+            }
         }
-        // Use stored value (handles refresh case where original.relicLink was already modified)
-        RewardItem originalLink = RelicLinkFields.originalRelicLink.get(original);
+    }
 
-        ArrayList<RewardItem> group = new ArrayList<>();
-        group.add(original);
+    private static boolean isInAbstractRoomRewards(ArrayList<RewardItem> rewards) {
+        return AbstractDungeon.getCurrRoom() != null &&
+               AbstractDungeon.getCurrRoom().rewards == rewards;
+    }
 
-        int insertIndex = rewards.indexOf(original) + 1;
-        AbstractRelic.RelicTier tier = original.relic.tier;
+    /**
+     * Create linked groups for several relic rewards of the same list at once.
+     * All extra relics are planned together by RelicRewardPlanner (one reservation,
+     * no duplicates across groups), then every group is spliced in after its original
+     * in a single rebuild of the rewards list.
+     *
+     * Originals that aren't in the rewards list are skipped before planning, so no relic is
+     * taken from the pools for a group that would never be shown.
+     *
+     * The extra rewards are not positioned here: callers must lay out the rewards list
+     * afterwards (CombatRewardScreen.positionRewards(), or setupItemReward() for AbstractRoom.rewards).
+     *
+     * @param rewards    The rewards list to modify
+     * @param originals  The original relic rewards to build groups around
+     * @param numChoices Total number of relics in each group (including original), parallel to originals
+     * @param config     Settings snapshot used for every tier roll in the room
+     * @return The extra rewards that were inserted
+     */
+    private static List<RewardItem> createLinkedRelicGroups(ArrayList<RewardItem> rewards,
+                                                            ArrayList<RewardItem> originals,
+                                                            int[] numChoices, PickyRelicsConfig config) {
+        Set<RewardItem> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        present.addAll(rewards);
+
+        RelicRewardPlanner planner = new RelicRewardPlanner(config);
+        int[] groupOf = new int[originals.size()];
+        for (int i = 0; i < originals.size(); i++) {
+            RewardItem original = originals.get(i);
+            if (!present.contains(original)) {
+                Log.debug("Picky Relics: {} is not in the rewards list, not linking", original.relic.relicId);
+                groupOf[i] = -1;
+                continue;
+            }
+            groupOf[i] = planner.addGroup(original.relic.tier, numChoices[i] - 1);
+        }
+        List<List<AbstractRelic>> planned = planner.plan();
+
+        IdentityHashMap<RewardItem, ArrayList<RewardItem>> extrasByOriginal = new IdentityHashMap<>();
+        ArrayList<RewardItem> added = new ArrayList<>();
+        for (int i = 0; i < originals.size(); i++) {
+            if (groupOf[i] < 0) continue;
+            RewardItem original = originals.get(i);
+
+            // Save the original relicLink before we modify the chain (e.g., Sapphire Key)
+            // Only save if we haven't already (handles refresh case)
+            RelicRewardState originalState = getOrCreateState(original);
+            if (originalState.originalRelicLink == null && original.relicLink != null) {
+                originalState.originalRelicLink = original.relicLink;
+            }
+            // Use stored value (handles refresh case where original.relicLink was already modified)
+            RewardItem originalLink = originalState.originalRelicLink;
 
-        for (int i = 1; i < numChoices; i++) {
-            AbstractRelic additionalRelic;
+            List<AbstractRelic> relics = planned.get(groupOf[i]);
+            if (relics.size() < numChoices[i] - 1) {
+                Log.debug("Picky Relics: Relic pool exhausted, group for {} has {} of {} choices",
+                        original.relic.relicId, relics.size() + 1, numChoices[i]);
+            }
 
-            if (tier == AbstractRelic.RelicTier.SPECIAL) {
-                // Event tier: additional choices come from enabled C/U/R pools
-                additionalRelic = getRandomNonEventRelic();
-                if (additionalRelic == null) {
-                    Log.debug("Picky Relics: No valid tier available for event relic, skipping");
-                    continue;
-                }
-            } else {
-                // Normal tier: use tier modification
-                AbstractRelic.RelicTier tierToUse = calculateModifiedTier(tier);
-                if (tierToUse != tier) {
-                    Log.debug("Picky Relics: Tier changed from " + tier + " to " + tierToUse);
-                }
-                additionalRelic = getRelicWithFallback(tierToUse);
+            ArrayList<RewardItem> group = new ArrayList<>(relics.size() + 2);
+            group.add(original);
+            ArrayList<RewardItem> extras = new ArrayList<>(relics.size());
+            for (AbstractRelic relic : relics) {
+                RewardItem newReward = new RewardItem(relic);
+                getOrCreateState(newReward).addedByPickyRelics = true;
+                extras.add(newReward);
+                group.add(newReward);
             }
 
-            // Skip Circlet - pool exhausted
-            if ("Circlet".equals(additionalRelic.relicId)) {
-                Log.debug("Picky Relics: Relic pool exhausted, skipping");
-                continue;
+            linkRelicGroup(group, originalLink);
+            if (!extras.isEmpty()) {
+                extrasByOriginal.put(original, extras);
+                added.addAll(extras);
             }
+        }
 
-            RewardItem newReward = new RewardItem(additionalRelic);
-            RelicLinkFields.addedByPickyRelics.set(newReward, true);
-            rewards.add(insertIndex, newReward);
+        if (added.isEmpty()) return added;
 
-            // Only manually position if we're NOT in AbstractRoom.rewards.
-            // PostBattle adds to AbstractRoom.rewards, which gets auto-positioned by setupItemReward().
-            // The setupItemReward patch adds to CombatRewardScreen.rewards after animation, so needs manual positioning.
-            if (!isInAbstractRoomRewards(rewards)) {
-                float yPos = (float)Settings.HEIGHT / 2.0F + 124.0F * Settings.scale
-                             - (float)insertIndex * 100.0F * Settings.scale;
-                newReward.move(yPos);
+        // Rebuild the list once with every group following its original
+        ArrayList<RewardItem> merged = new ArrayList<>(rewards.size() + added.size());
+        for (RewardItem r : rewards) {
+            merged.add(r);
+            ArrayList<RewardItem> extras = extrasByOriginal.get(r);
+            if (extras != null) {
+                merged.addAll(extras);
             }
-
-            insertIndex++;
-            group.add(newReward);
         }
-
-        linkRelicGroup(group, originalLink);
+        rewards.clear();
+        rewards.addAll(merged);
+        return added;
     }
 
     /**
      * Link a group of relic rewards together.
-     * Sets both our custom linkedRelics field (for removal logic) and
+     * Sets both our RelicGroup state (for removal and highlight logic) and
      * the game's built-in relicLink field (for visual chain icons).
      *
      * @param relics       The group of relics to link together
      * @param originalLink The original relicLink from the first relic (e.g., Sapphire Key), or null
      */
     public static void linkRelicGroup(ArrayList<RewardItem> relics, RewardItem originalLink) {
-        // Set our custom field for tracking the full group
-        for (RewardItem r : relics) {
-            RelicLinkFields.linkedRelics.set(r, relics);
+        // The originalLink (e.g., Sapphire Key) joins the group as its last member so it's handled
+        // uniformly for highlighting. This ensures the key becomes the "last item" so our
+        // UpdateHighlightPatch runs AFTER the key's native update() and can correct any redText
+        // values it overwrites.
+        RelicGroup group = new RelicGroup(relics, originalLink);
+        for (int i = 0; i < group.size(); i++) {
+            RelicRewardState state = getOrCreateState(group.get(i));
+            state.group = group;
+            state.index = i;
         }
 
         // Set the game's relicLink field in a linear chain for visual display
@@ -334,14 +261,6 @@ public class RelicLinkPatch {
             // Last item links to the original link (e.g., Sapphire Key) if it exists
             relics.get(relics.size() - 1).relicLink = originalLink;
         }
-
-        // Add originalLink (e.g., Sapphire Key) to the linked group so it's handled uniformly
-        // for highlighting. This ensures the key becomes the "last item" so our UpdateHighlightPatch
-        // runs AFTER the key's native update() and can correct any redText values it overwrites.
-        if (originalLink != null) {
-            relics.add(originalLink);
-            RelicLinkFields.linkedRelics.set(originalLink, relics);
-        }
     }
 
     /**
@@ -355,13 +274,16 @@ public class RelicLinkPatch {
         public static void Postfix(RewardItem __instance, boolean __result) {
             if (!__result) return; // Reward wasn't actually claimed
 
-            ArrayList<RewardItem> linked = RelicLinkFields.linkedRelics.get(__instance);
-            if (linked == null) return;
+            RelicRewardState state = RelicLinkFields.state.get(__instance);
+            if (state == null || state.group == null || state.group.isClaimed()) return;
 
-            Log.debug("Picky Relics: Relic claimed, marking " + (linked.size() - 1) + " linked relics as done");
+            RelicGroup group = state.group;
+            group.setClaimed();
+            Log.debug("Picky Relics: Relic claimed, marking {} linked relics as done", group.size() - 1);
 
-            for (RewardItem other : linked) {
-                if (other != __instance) {
+            for (int i = 0; i < group.size(); i++) {
+                if (i != state.index) {
+                    RewardItem other = group.get(i);
                     // Mark as done - the game will remove it after iteration completes
                     other.isDone = true;
                     // Prevent the relic from being obtained
@@ -374,47 +296,77 @@ public class RelicLinkPatch {
     /**
      * When hovering over a linked relic, highlight all other linked relics with red text.
      * Uses a postfix patch so we run AFTER the game's native relicLink handling.
-     * Only the LAST item in each group performs the logic - this ensures we execute after
+     *
+     * Each member records itself as the group's hovered member when hovered (O(1)).
+     * Only the LAST item in each group acts on it - this ensures we execute after
      * all native relicLink updates have completed (native code sets relicLink.redText = hovered,
      * which would overwrite our values if we ran earlier in the chain).
+     *
+     * redText is rewritten for the whole group only when the hovered member changes. While a
+     * member stays hovered, only the entries the native update cleared are set back; an idle
+     * group does a constant-time check and no writes.
      */
     @SpirePatch2(clz = RewardItem.class, method = "update")
     public static class UpdateHighlightPatch {
         @SpirePostfixPatch
         public static void Postfix(RewardItem __instance) {
-            ArrayList<RewardItem> linked = RelicLinkFields.linkedRelics.get(__instance);
-            if (linked == null || linked.isEmpty()) return;
+            RelicRewardState state = RelicLinkFields.state.get(__instance);
+            if (state == null || state.group == null) return;
+            RelicGroup group = state.group;
+
+            if (__instance.hb.hovered) {
+                group.setHovered(__instance);
+            }
 
             // Only the LAST item in the group handles redText for the whole group
-            // This ensures we run AFTER all native relicLink updates have occurred
-            // (Native code: each item sets relicLink.redText = hovered, which can overwrite our values)
-            if (linked.get(linked.size() - 1) != __instance) return;
-
-            // Get the original link (e.g., Sapphire Key) from the first item in the group
-            RewardItem originalLink = RelicLinkFields.originalRelicLink.get(linked.get(0));
-
-            // Find which item (if any) is being hovered
-            for (RewardItem hoveredItem : linked) {
-                if (hoveredItem.hb.hovered) {
-                    // Set redText on all OTHER linked items
-                    for (RewardItem other : linked) {
-                        other.redText = (other != hoveredItem);
-                    }
-                    // Also set redText on the original link (e.g., Sapphire Key)
-                    if (originalLink != null) {
-                        originalLink.redText = true;
+            if (!group.isLast(state.index)) return;
+
+            // The previously hovered member lost hover and nobody else claimed it this frame
+            RewardItem hoveredItem = group.getHovered();
+            if (hoveredItem != null && !hoveredItem.hb.hovered) {
+                hoveredItem = null;
+                group.setHovered(null);
+            }
+
+            if (hoveredItem == null && group.getApplied() == null) return; // Idle
+
+            RewardItem originalLink = group.getOriginalLink();
+
+            if (hoveredItem == group.getApplied()) {
+                // Same member still hovered: restore what the native updates reset this frame
+                for (int i = 0; i < group.size(); i++) {
+                    RewardItem other = group.get(i);
+                    if (other != hoveredItem && !other.redText) {
+                        other.redText = true;
                     }
-                    return;
                 }
+                if (originalLink != null && !originalLink.redText) {
+                    originalLink.redText = true;
+                }
+                return;
             }
 
-            // Nobody in the group is hovered, reset all redText
-            for (RewardItem r : linked) {
-                r.redText = false;
-            }
-            // Also reset redText on the original link
-            if (originalLink != null) {
-                originalLink.redText = false;
+            // Hover transition: rewrite the whole group once
+            group.setApplied(hoveredItem);
+            if (hoveredItem != null) {
+                // Set redText on all OTHER linked items
+                for (int i = 0; i < group.size(); i++) {
+                    RewardItem other = group.get(i);
+                    other.redText = (other != hoveredItem);
+                }
+                // Also set redText on the original link (e.g., Sapphire Key)
+                if (originalLink != null) {
+                    originalLink.redText = true;
+                }
+            } else {
+                // Nobody in the group is hovered anymore, reset all redText
+                for (int i = 0; i < group.size(); i++) {
+                    group.get(i).redText = false;
+                }
+                // Also reset redText on the original link
+                if (originalLink != null) {
+                    originalLink.redText = false;
+                }
             }
         }
     }
@@ -424,6 +376,45 @@ public class RelicLinkPatch {
      */
     @SpirePatch2(clz = RewardItem.class, method = "render")
     public static class RenderLinkPatch {
+        // RewardItem.renderRelicLink(SpriteBatch), resolved once; null if the method can't be found
+        private static final MethodHandle RENDER_RELIC_LINK = findRenderRelicLink();
+        // Render failures are per frame, so report them at most once per interval
+        private static final long RENDER_ERROR_LOG_INTERVAL_NANOS = 10_000_000_000L;
+        private static long lastRenderErrorNanos;
+        private static boolean renderErrorLogged = false;
+
+        private static MethodHandle findRenderRelicLink() {
+            try {
+                Method method = RewardItem.class.getDeclaredMethod("renderRelicLink", SpriteBatch.class);
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (ReflectiveOperationException | SecurityException e) {
+                Log.warn("Could not resolve RewardItem.renderRelicLink, chain icons disabled: " + e);
+                return null;
+            }
+        }
+
+        private static void renderRelicLink(RewardItem reward, SpriteBatch sb) {
+            if (RENDER_RELIC_LINK == null) return;
+
+            try {
+                RENDER_RELIC_LINK.invokeExact(reward, sb);
+            } catch (RuntimeException e) {
+                // Skip the icon this frame; the next frame tries again
+                long now = System.nanoTime();
+                if (!renderErrorLogged || now - lastRenderErrorNanos >= RENDER_ERROR_LOG_INTERVAL_NANOS) {
+                    renderErrorLogged = true;
+                    lastRenderErrorNanos = now;
+                    Log.error("Failed to render relic chain icon", e);
+                }
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // renderRelicLink declares no checked exceptions
+                throw new IllegalStateException(t);
+            }
+        }
+
         @SpirePostfixPatch
         public static void Postfix(RewardItem __instance, SpriteBatch sb) {
             if (__instance.type != RewardItem.RewardType.RELIC) return;
@@ -434,21 +425,20 @@ public class RelicLinkPatch {
             }
 
             // Render chain icon and tooltip for linked groups
-            ArrayList<RewardItem> linked = RelicLinkFields.linkedRelics.get(__instance);
-            if (linked == null || linked.size() < 2) return;
+            RelicRewardState state = RelicLinkFields.state.get(__instance);
+            if (state == null || state.group == null || state.group.size() < 2) return;
+            RelicGroup group = state.group;
 
             // Chain renders ABOVE the item, so we render on all items except the first
             // (the first item has no chain above it connecting to a previous item)
-            if (linked.get(0) != __instance) {
-                ReflectionHacks.privateMethod(RewardItem.class, "renderRelicLink", SpriteBatch.class)
-                        .invoke(__instance, sb);
+            if (!group.isFirst(state.index)) {
+                renderRelicLink(__instance, sb);
             }
 
             // Render tooltip when hovering
             if (__instance.hb.hovered) {
-                ensureStringsLoaded();
                 String title = TEXT[0];
-                String body = String.format(TEXT[1], linked.size() - 1);
+                String body = String.format(TEXT[1], group.size() - 1);
                 TipHelper.renderGenericTip(
                         360.0F * Settings.scale,
                         InputHelper.mY + 50.0F * Settings.scale,
@@ -475,6 +465,19 @@ public class RelicLinkPatch {
             if (__instance.rewards.size() != sizeBefore) {
                 __instance.positionRewards();
             }
+            ProcessLateRelicRewards.markClean(__instance.rewards);
+        }
+    }
+
+    /**
+     * Flags the late-reward check whenever a relic reward is created anywhere,
+     * so ProcessLateRelicRewards only rescans after something actually changed.
+     */
+    @SpirePatch2(clz = RewardItem.class, method = SpirePatch.CONSTRUCTOR, paramtypez = { AbstractRelic.class })
+    public static class RelicRewardCreatedPatch {
+        @SpirePostfixPatch
+        public static void Postfix() {
+            ProcessLateRelicRewards.markDirty();
         }
     }
 
@@ -482,18 +485,42 @@ public class RelicLinkPatch {
      * Safety net hook: Catches relics added after setupItemReward() by other mods.
      * Some mods add relics directly to combatRewardScreen.rewards after setup,
      * bypassing AbstractRoom.addRelicToRewards(). This hook ensures we process them.
+     *
+     * Change-driven: the rewards list is only scanned after a relic RewardItem was constructed
+     * (RelicRewardCreatedPatch) or the list itself was replaced or resized. Steady-state frames
+     * are a flag and size comparison.
      */
     @SpirePatch2(clz = CombatRewardScreen.class, method = "update")
     public static class ProcessLateRelicRewards {
+        private static boolean dirty = true;
+        private static ArrayList<RewardItem> lastRewards;
+        private static int lastSize = -1;
+
+        static void markDirty() {
+            dirty = true;
+        }
+
+        /**
+         * Record the list state that has just been fully processed.
+         */
+        static void markClean(ArrayList<RewardItem> rewards) {
+            dirty = false;
+            lastRewards = rewards;
+            lastSize = rewards.size();
+        }
+
         @SpirePostfixPatch
         public static void Postfix(CombatRewardScreen __instance) {
-            // Quick check: any unlinked relics that should have extra choices?
+            ArrayList<RewardItem> rewards = __instance.rewards;
+            if (!dirty && rewards == lastRewards && rewards.size() == lastSize) return;
+
+            // Something changed: any unlinked relics that should have extra choices?
+            PickyRelicsConfig config = PickyRelicsMod.getConfig();
             boolean hasUnlinked = false;
-            for (RewardItem r : __instance.rewards) {
-                if (r.type == RewardItem.RewardType.RELIC &&
-                    RelicLinkFields.linkedRelics.get(r) == null) {
+            for (RewardItem r : rewards) {
+                if (r.type == RewardItem.RewardType.RELIC && getGroup(r) == null) {
                     // Check if this tier should have extra choices
-                    if (r.relic != null && PickyRelicsMod.getChoicesForTier(r.relic.tier) <= 1) {
+                    if (r.relic != null && PickyRelicsMod.getChoicesForTier(config, r.relic.tier) <= 1) {
                         continue;
                     }
                     hasUnlinked = true;
@@ -503,16 +530,19 @@ public class RelicLinkPatch {
 
             if (hasUnlinked) {
                 Log.debug("[UPDATE] Found unlinked relic(s) added after setup, processing...");
-                int sizeBefore = __instance.rewards.size();
-                int processed = processRelicRewards(__instance.rewards, "UPDATE");
+                int sizeBefore = rewards.size();
+                processRelicRewards(rewards, "UPDATE");
 
                 // If we added relics, reposition everything
-                if (__instance.rewards.size() != sizeBefore) {
-                    Log.debug("[UPDATE] Repositioning rewards after adding " +
-                            (__instance.rewards.size() - sizeBefore) + " new relic(s)");
+                if (rewards.size() != sizeBefore) {
+                    Log.debug("[UPDATE] Repositioning rewards after adding {} new relic(s)",
+                            rewards.size() - sizeBefore);
                     __instance.positionRewards();
                 }
             }
+
+            // Our own new RewardItems set the flag too; the list is now settled
+            markClean(rewards);
         }
     }
 
@@ -527,55 +557,53 @@ public class RelicLinkPatch {
      */
     public static int processRelicRewards(ArrayList<RewardItem> rewards, String source) {
         boolean isPostBattle = "PostBattle".equals(source);
-
-        // Count total relics for logging
-        int totalRelicRewards = 0;
-        for (RewardItem r : rewards) {
-            if (r.type == RewardItem.RewardType.RELIC) {
-                totalRelicRewards++;
-            }
-        }
-        Log.debug("[" + source + "] Found " + totalRelicRewards + " relic reward(s)");
+        PickyRelicsConfig config = PickyRelicsMod.getConfig();
 
         // Find all relic rewards that don't already have linked groups
+        int totalRelicRewards = 0;
         ArrayList<RewardItem> unlinkedRelics = new ArrayList<>();
+        int[] choices = new int[rewards.size()];
         for (RewardItem r : rewards) {
-            if (r.type == RewardItem.RewardType.RELIC && r.relic != null) {
+            if (r.type != RewardItem.RewardType.RELIC) continue;
+            totalRelicRewards++;
+
+            if (r.relic != null) {
                 // Skip relics already processed in PostBattle (to avoid double-processing in SETUP)
-                if (!isPostBattle && RelicLinkFields.processedInPostBattle.get(r)) {
-                    Log.debug("[" + source + "] Skipping " + r.relic.relicId +
-                            " (already processed in PostBattle)");
+                RelicRewardState state = RelicLinkFields.state.get(r);
+                if (!isPostBattle && state != null && state.processedInPostBattle) {
+                    Log.debug("[{}] Skipping {} (already processed in PostBattle)", source, r.relic.relicId);
                     continue;
                 }
 
-                ArrayList<RewardItem> existingGroup = RelicLinkFields.linkedRelics.get(r);
-                if (existingGroup == null) {
+                if (state == null || state.group == null) {
                     // Get tier-specific choice count
-                    int tierChoices = PickyRelicsMod.getChoicesForTier(r.relic.tier);
+                    int tierChoices = PickyRelicsMod.getChoicesForTier(config, r.relic.tier);
                     if (tierChoices <= 1) {
-                        Log.debug("[" + source + "] Skipping " + r.relic.tier + " tier relic: " +
-                                r.relic.relicId + " (choices=1)");
+                        Log.debug("[{}] Skipping {} tier relic: {} (choices=1)",
+                                source, r.relic.tier, r.relic.relicId);
                         continue;
                     }
+                    choices[unlinkedRelics.size()] = tierChoices;
                     unlinkedRelics.add(r);
+                    Log.debug("[{}] Creating linked group for {} (tier: {}) with {} choices",
+                            source, r.relic.relicId, r.relic.tier, tierChoices);
                 } else {
-                    Log.debug("[" + source + "] Relic " + r.relic.relicId + " already has linked group, skipping");
+                    Log.debug("[{}] Relic {} already has linked group, skipping", source, r.relic.relicId);
                 }
             }
         }
 
-        Log.debug("[" + source + "] Processing " + unlinkedRelics.size() + " unlinked relic(s)");
+        Log.debug("[{}] Found {} relic reward(s), processing {} unlinked",
+                source, totalRelicRewards, unlinkedRelics.size());
+        if (unlinkedRelics.isEmpty()) return 0;
 
-        // Create linked groups for each unlinked relic
-        for (RewardItem original : unlinkedRelics) {
-            int tierChoices = PickyRelicsMod.getChoicesForTier(original.relic.tier);
-            Log.debug("[" + source + "] Creating linked group for " + original.relic.relicId +
-                    " (tier: " + original.relic.tier + ") with " + tierChoices + " choices");
-            createLinkedRelicGroup(rewards, original, tierChoices);
+        // Plan and insert every group in the room together
+        createLinkedRelicGroups(rewards, unlinkedRelics, choices, config);
 
-            // Mark as processed in PostBattle to prevent double-processing in SETUP
-            if (isPostBattle) {
-                RelicLinkFields.processedInPostBattle.set(original, true);
+        // Mark as processed in PostBattle to prevent double-processing in SETUP
+        if (isPostBattle) {
+            for (RewardItem original : unlinkedRelics) {
+                getOrCreateState(original).processedInPostBattle = true;
             }
         }
 
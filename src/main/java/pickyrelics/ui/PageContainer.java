@@ -0,0 +1,85 @@
+package pickyrelics.ui;
+
+import basemod.IUIElement;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Holds the elements of every settings page and forwards update/render to the active page only.
+ *
+ * Registered with the ModPanel as a single element, so hidden pages cost nothing per frame.
+ * Within a page, elements are kept in renderLayer/updateOrder order like ModPanel does.
+ */
+public class PageContainer implements IUIElement {
+    private final List<List<IUIElement>> renderOrder;
+    private final List<List<IUIElement>> updateOrder;
+    private final IntSupplier currentPageSupplier;
+
+    public PageContainer(int pageCount, IntSupplier currentPageSupplier) {
+        this.renderOrder = new ArrayList<>(pageCount);
+        this.updateOrder = new ArrayList<>(pageCount);
+        for (int i = 0; i < pageCount; i++) {
+            renderOrder.add(new ArrayList<>());
+            updateOrder.add(new ArrayList<>());
+        }
+        this.currentPageSupplier = currentPageSupplier;
+    }
+
+    public int getPageCount() {
+        return renderOrder.size();
+    }
+
+    /**
+     * Add an element to a page.
+     *
+     * @param page    Page index (0-based)
+     * @param element Element shown only while that page is active
+     */
+    public void add(int page, IUIElement element) {
+        List<IUIElement> render = renderOrder.get(page);
+        int r = render.size();
+        while (r > 0 && render.get(r - 1).renderLayer() > element.renderLayer()) r--;
+        render.add(r, element);
+
+        List<IUIElement> update = updateOrder.get(page);
+        int u = update.size();
+        while (u > 0 && update.get(u - 1).updateOrder() < element.updateOrder()) u--;
+        update.add(u, element);
+    }
+
+    @Override
+    public void render(SpriteBatch sb) {
+        List<IUIElement> elements = activePage(renderOrder);
+        if (elements == null) return;
+        for (int i = 0; i < elements.size(); i++) {
+            elements.get(i).render(sb);
+        }
+    }
+
+    @Override
+    public void update() {
+        List<IUIElement> elements = activePage(updateOrder);
+        if (elements == null) return;
+        for (int i = 0; i < elements.size(); i++) {
+            elements.get(i).update();
+        }
+    }
+
+    private List<IUIElement> activePage(List<List<IUIElement>> pages) {
+        int page = currentPageSupplier.getAsInt();
+        return page >= 0 && page < pages.size() ? pages.get(page) : null;
+    }
+
+    @Override
+    public int renderLayer() {
+        return 1;
+    }
+
+    @Override
+    public int updateOrder() {
+        return 1;
+    }
+}
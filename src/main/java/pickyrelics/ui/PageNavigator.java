@@ -3,24 +3,22 @@ package pickyrelics.ui;
 import basemod.IUIElement;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.helpers.FontHelper;
 import com.megacrit.cardcrawl.helpers.Hitbox;
 import com.megacrit.cardcrawl.helpers.input.InputHelper;
-import com.megacrit.cardcrawl.localization.UIStrings;
-import pickyrelics.PickyRelicsMod;
+import pickyrelics.util.PickyStrings;
 
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
 
 /**
  * A page navigator component showing "<< page X of Y >>" with clickable arrows.
  */
 public class PageNavigator implements IUIElement {
     private final int totalPages;
-    private final Supplier<Integer> currentPageSupplier;
-    private final Consumer<Integer> onPageChange;
+    private final IntSupplier currentPageSupplier;
+    private final IntConsumer onPageChange;
     private final float centerX;
     private final float y;
     private final Hitbox leftArrowHb;
@@ -33,19 +31,11 @@ public class PageNavigator implements IUIElement {
     private static final Color TEXT_COLOR = Settings.CREAM_COLOR;
     private static final Color HOVER_COLOR = Settings.GREEN_TEXT_COLOR;
 
-    // Lazy-loaded localized strings
-    private static UIStrings pageNavStrings;
-    private static String[] TEXT;
-
-    private static void ensureStringsLoaded() {
-        if (pageNavStrings == null) {
-            pageNavStrings = CardCrawlGame.languagePack.getUIString(PickyRelicsMod.makeID("PageNav"));
-            TEXT = pageNavStrings.TEXT;
-        }
-    }
+    // Localized strings, filled once by PickyStrings.load()
+    private static final String[] TEXT = PickyStrings.PAGE_NAV;
 
     public PageNavigator(int totalPages, float centerX, float y,
-                         Supplier<Integer> currentPageSupplier, Consumer<Integer> onPageChange) {
+                         IntSupplier currentPageSupplier, IntConsumer onPageChange) {
         this.totalPages = totalPages;
         this.centerX = centerX;
         this.y = y;
@@ -62,8 +52,7 @@ public class PageNavigator implements IUIElement {
 
     @Override
     public void render(SpriteBatch sb) {
-        ensureStringsLoaded();
-        int currentPage = currentPageSupplier.get();
+        int currentPage = currentPageSupplier.getAsInt();
 
         // Render left arrow
         Color leftColor = leftArrowHb.hovered ? HOVER_COLOR : ARROW_COLOR;
@@ -87,13 +76,13 @@ public class PageNavigator implements IUIElement {
         rightArrowHb.update();
 
         if (leftArrowHb.hovered && InputHelper.justClickedLeft) {
-            int currentPage = currentPageSupplier.get();
+            int currentPage = currentPageSupplier.getAsInt();
             int newPage = (currentPage - 1 + totalPages) % totalPages;
             onPageChange.accept(newPage);
         }
 
         if (rightArrowHb.hovered && InputHelper.justClickedLeft) {
-            int currentPage = currentPageSupplier.get();
+            int currentPage = currentPageSupplier.getAsInt();
             int newPage = (currentPage + 1) % totalPages;
             onPageChange.accept(newPage);
         }
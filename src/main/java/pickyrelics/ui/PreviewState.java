@@ -0,0 +1,21 @@
+package pickyrelics.ui;
+
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+
+import java.util.List;
+
+/**
+ * Tier, count and relics of one generated settings preview.
+ * Published as one immutable object so everything drawn in a frame reads the same preview.
+ */
+public final class PreviewState {
+    public final AbstractRelic.RelicTier tier;
+    public final int count;
+    public final List<AbstractRelic> relics;
+
+    public PreviewState(AbstractRelic.RelicTier tier, int count, List<AbstractRelic> relics) {
+        this.tier = tier;
+        this.count = count;
+        this.relics = relics;
+    }
+}
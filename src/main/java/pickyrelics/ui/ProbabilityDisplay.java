@@ -3,19 +3,17 @@ package pickyrelics.ui;
 import basemod.IUIElement;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.helpers.FontHelper;
 import com.megacrit.cardcrawl.helpers.ImageMaster;
-import com.megacrit.cardcrawl.localization.UIStrings;
-import pickyrelics.PickyRelicsMod;
+import pickyrelics.core.TierTransitionTable;
+import pickyrelics.util.PickyStrings;
 import pickyrelics.util.TierUtils;
 
-import java.util.Map;
-
 /**
  * UI component that displays probability distribution for tier outcomes as a table.
- * Updates in real-time based on current settings.
+ * Updates in real-time based on current settings; the table model is rebuilt only when
+ * the tier shift settings or the UI scale change, and render just draws cached strings.
  */
 public class ProbabilityDisplay implements IUIElement {
     private final float x;
@@ -54,16 +52,8 @@ public class ProbabilityDisplay implements IUIElement {
             0.5f
     );
 
-    // Lazy-loaded localized strings
-    private static UIStrings probabilityStrings;
-    private static String[] TEXT;
-
-    private static void ensureStringsLoaded() {
-        if (probabilityStrings == null) {
-            probabilityStrings = CardCrawlGame.languagePack.getUIString(PickyRelicsMod.makeID("Probability"));
-            TEXT = probabilityStrings.TEXT;
-        }
-    }
+    // Localized strings, filled once by PickyStrings.load()
+    private static final String[] TEXT = PickyStrings.PROBABILITY;
 
     private static String getTierName(int tierPosition) {
         switch (tierPosition) {
@@ -82,116 +72,151 @@ public class ProbabilityDisplay implements IUIElement {
     // All result tiers for columns
     private static final int[] COL_TIERS = {0, 1, 2, 3, 4};
 
+    // Table model, rebuilt only when the transition table or Settings.scale changes
+    private TierTransitionTable cachedTable;
+    private float cachedScale = Float.NaN;
+    private final String[] tierNames = new String[COL_TIERS.length];
+    private final String[][] cellText = new String[ROW_TIERS.length][COL_TIERS.length];
+    private final Color[][] cellColor = new Color[ROW_TIERS.length][COL_TIERS.length];
+    private final float[] colX = new float[COL_TIERS.length];
+    private final float[] rowY = new float[ROW_TIERS.length];
+    private float headerCenterX;
+    private float headerY;
+    private float underlineX;
+    private float underlineY;
+    private float underlineWidth;
+    private float colHeaderY;
+    private float rowLabelX;
+    private float bracketLineX;
+    private float bracketTopY;
+    private float bracketBottomY;
+    private float capLength;
+    private float thickness;
+    private float labelRightEdge;
+    private float labelCenterY;
+    private float lineHeight;
+
     public ProbabilityDisplay(float x, float y) {
         this.x = x;
         this.y = y;
     }
 
-    @Override
-    public void render(SpriteBatch sb) {
-        ensureStringsLoaded();
-        float scale = Settings.scale;
-        float lineHeight = LINE_HEIGHT * scale;
+    /**
+     * Recompute probabilities, cell strings, colors and positions.
+     * Keyed on the transition table, which is shared by all config snapshots with the same
+     * tier shift settings, so choice-count sliders don't trigger a rebuild.
+     */
+    private void rebuild(TierTransitionTable table, float scale) {
+        cachedTable = table;
+        cachedScale = scale;
+
+        lineHeight = LINE_HEIGHT * scale;
         float rowLabelWidth = ROW_LABEL_WIDTH * scale;
         float leftMargin = LEFT_MARGIN_WIDTH * scale;
         float bracketGap = BRACKET_GAP * scale;
-        float thickness = LINE_THICKNESS * scale;
-        float capLength = BRACKET_CAP_LENGTH * scale;
-
-        // Pre-calculate scaled column widths and positions
-        float[] colWidths = new float[COLUMN_WIDTHS.length];
-        float[] colPositions = new float[COLUMN_WIDTHS.length];
-        float totalColWidth = 0;
-        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
-            colWidths[i] = COLUMN_WIDTHS[i] * scale;
-            colPositions[i] = totalColWidth;
-            totalColWidth += colWidths[i];
-        }
+        thickness = LINE_THICKNESS * scale;
+        capLength = BRACKET_CAP_LENGTH * scale;
 
         // Zone positions (left to right)
         float labelZoneX = x * scale;                              // "Starting Relic"
-        float bracketLineX = labelZoneX + leftMargin;              // Vertical bracket line
-        float rowLabelX = bracketLineX + bracketGap;               // Tier name labels
+        bracketLineX = labelZoneX + leftMargin;                    // Vertical bracket line
+        rowLabelX = bracketLineX + bracketGap;                     // Tier name labels
         float dataX = rowLabelX + rowLabelWidth;                   // Data columns start
 
+        // Scaled column positions
+        float totalColWidth = 0;
+        for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+            colX[i] = dataX + totalColWidth;
+            totalColWidth += COLUMN_WIDTHS[i] * scale;
+        }
+
         float currentY = y * scale;
 
         // 1. Column header - centered over data columns
-        float headerCenterX = dataX + totalColWidth / 2.0f;
-        FontHelper.renderFontCentered(sb, FontHelper.tipBodyFont,
-                TEXT[0],
-                headerCenterX, currentY - lineHeight * 0.4f, Settings.CREAM_COLOR);
-
+        headerCenterX = dataX + totalColWidth / 2.0f;
+        headerY = currentY - lineHeight * 0.4f;
         currentY -= lineHeight;
 
         // 2. Underline - actual horizontal line
-        float underlineY = currentY - lineHeight * 0.3f;
-        float underlineWidth = totalColWidth - 20.0f * scale;
-        drawHorizontalLine(sb, headerCenterX - underlineWidth / 2.0f, underlineY, underlineWidth, thickness);
-
+        underlineY = currentY - lineHeight * 0.3f;
+        underlineWidth = totalColWidth - 20.0f * scale;
+        underlineX = headerCenterX - underlineWidth / 2.0f;
         currentY -= lineHeight * 0.7f;
 
         // 3. Column tier headers
+        colHeaderY = currentY;
         for (int colIdx = 0; colIdx < COL_TIERS.length; colIdx++) {
-            String tierName = getTierName(COL_TIERS[colIdx]);
-            float colX = dataX + colPositions[colIdx];
-            FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
-                    tierName, colX, currentY, Settings.CREAM_COLOR);
+            tierNames[colIdx] = getTierName(COL_TIERS[colIdx]);
         }
-
         currentY -= lineHeight;
         float firstDataY = currentY;
 
-        // 4. Data rows with tier labels
+        // 4. Data rows
         for (int rowIdx = 0; rowIdx < ROW_TIERS.length; rowIdx++) {
             int startTier = ROW_TIERS[rowIdx];
-            String rowLabel = getTierName(startTier);
-
-            // Row label (tier name)
-            FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
-                    rowLabel, rowLabelX, currentY, LABEL_COLOR);
+            rowY[rowIdx] = currentY;
 
-            // Data cells
-            Map<Integer, Double> probabilities = TierUtils.calculateTierProbabilities(startTier);
             for (int colIdx = 0; colIdx < COL_TIERS.length; colIdx++) {
-                int resultTier = COL_TIERS[colIdx];
-                double prob = probabilities.getOrDefault(resultTier, 0.0);
-
-                String cellText;
-                Color cellColor;
+                double prob = table.getProbability(startTier, COL_TIERS[colIdx]);
                 if (prob >= 0.001) {
-                    cellText = String.format("%.0f%%", prob * 100);
-                    cellColor = Settings.CREAM_COLOR;
+                    cellText[rowIdx][colIdx] = String.format("%.0f%%", prob * 100);
+                    cellColor[rowIdx][colIdx] = Settings.CREAM_COLOR;
                 } else {
-                    cellText = "-";
-                    cellColor = IMPOSSIBLE_COLOR;
+                    cellText[rowIdx][colIdx] = "-";
+                    cellColor[rowIdx][colIdx] = IMPOSSIBLE_COLOR;
                 }
-
-                float colX = dataX + colPositions[colIdx];
-                FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
-                        cellText, colX, currentY, cellColor);
             }
-
             currentY -= lineHeight;
         }
 
         float lastDataY = currentY + lineHeight;
 
-        // 5. Draw bracket lines connecting rows to axis label
-        // Vertical line spans from first row to last row
-        float bracketTopY = firstDataY - lineHeight * 0.35f;
-        float bracketBottomY = lastDataY - lineHeight * 0.65f;
-        drawVerticalLine(sb, bracketLineX, bracketBottomY, bracketTopY - bracketBottomY, thickness);
+        // 5. Bracket spans from first row to last row
+        bracketTopY = firstDataY - lineHeight * 0.35f;
+        bracketBottomY = lastDataY - lineHeight * 0.65f;
 
-        // Top horizontal cap
-        drawHorizontalLine(sb, bracketLineX, bracketTopY, capLength, thickness);
+        // 6. Axis label - stacked vertically, centered against data rows
+        labelCenterY = firstDataY - lineHeight * 2;
+        labelRightEdge = bracketLineX - 8.0f * scale;
+    }
 
-        // Bottom horizontal cap
+    @Override
+    public void render(SpriteBatch sb) {
+        TierTransitionTable table = TierUtils.getTransitionTable();
+        if (table != cachedTable || Settings.scale != cachedScale) {
+            rebuild(table, Settings.scale);
+        }
+
+        // 1. Column header
+        FontHelper.renderFontCentered(sb, FontHelper.tipBodyFont,
+                TEXT[0], headerCenterX, headerY, Settings.CREAM_COLOR);
+
+        // 2. Underline
+        drawHorizontalLine(sb, underlineX, underlineY, underlineWidth, thickness);
+
+        // 3. Column tier headers
+        for (int colIdx = 0; colIdx < COL_TIERS.length; colIdx++) {
+            FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
+                    tierNames[colIdx], colX[colIdx], colHeaderY, Settings.CREAM_COLOR);
+        }
+
+        // 4. Data rows with tier labels
+        for (int rowIdx = 0; rowIdx < ROW_TIERS.length; rowIdx++) {
+            FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
+                    tierNames[ROW_TIERS[rowIdx]], rowLabelX, rowY[rowIdx], LABEL_COLOR);
+
+            for (int colIdx = 0; colIdx < COL_TIERS.length; colIdx++) {
+                FontHelper.renderFontLeftTopAligned(sb, FontHelper.tipBodyFont,
+                        cellText[rowIdx][colIdx], colX[colIdx], rowY[rowIdx], cellColor[rowIdx][colIdx]);
+            }
+        }
+
+        // 5. Bracket lines connecting rows to axis label
+        drawVerticalLine(sb, bracketLineX, bracketBottomY, bracketTopY - bracketBottomY, thickness);
+        drawHorizontalLine(sb, bracketLineX, bracketTopY, capLength, thickness);
         drawHorizontalLine(sb, bracketLineX, bracketBottomY, capLength, thickness);
 
-        // 6. Axis label - stacked vertically, centered against data rows
-        float labelCenterY = firstDataY - lineHeight * 2;
-        float labelRightEdge = bracketLineX - 8.0f * scale;
+        // 6. Axis label
         FontHelper.renderFontRightTopAligned(sb, FontHelper.tipBodyFont,
                 TEXT[1], labelRightEdge, labelCenterY, LABEL_COLOR);
         FontHelper.renderFontRightTopAligned(sb, FontHelper.tipBodyFont,
@@ -218,7 +243,7 @@ public class ProbabilityDisplay implements IUIElement {
 
     @Override
     public void update() {
-        // Probabilities are recalculated each render based on current settings
+        // Table model is refreshed lazily in render when the settings change
     }
 
     @Override
@@ -1,31 +1,43 @@
 package pickyrelics.ui;
 
 import basemod.IUIElement;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.megacrit.cardcrawl.core.CardCrawlGame;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.helpers.FontHelper;
 import com.megacrit.cardcrawl.helpers.ImageMaster;
-import com.megacrit.cardcrawl.localization.UIStrings;
 import com.megacrit.cardcrawl.relics.AbstractRelic;
 import pickyrelics.PickyRelicsMod;
+import pickyrelics.util.Log;
+import pickyrelics.util.PickyStrings;
 import pickyrelics.util.TierUtils;
 
+import java.nio.IntBuffer;
 import java.util.List;
 import java.util.function.Supplier;
 
 /**
  * Visual preview component that shows what the reward screen will look like
  * for the currently selected tier.
+ *
+ * The preview is drawn into an offscreen FrameBuffer whenever its inputs change (tier,
+ * count, relic list, tier label toggle, UI scale or language) and blitted with a single
+ * draw on every other frame. If the FrameBuffer can't be created or used, it falls back
+ * to drawing directly.
  */
 public class RelicChoicePreview implements IUIElement {
     private final float x;
     private final float y;
-    private final Supplier<AbstractRelic.RelicTier> tierSupplier;
-    private final Supplier<Integer> countSupplier;
-    private final Supplier<List<AbstractRelic>> relicsSupplier;
+    private final Supplier<PreviewState> previewSupplier;
+    private PreviewState preview;  // Taken once per frame in update()
 
     private static final float ROW_HEIGHT = 50.0f;
     private static final float CHAIN_ICON_SIZE = 64.0f;
@@ -41,34 +53,186 @@ public class RelicChoicePreview implements IUIElement {
     private static Texture chainTexture;
     private static Texture bannerTexture;
 
-    // Lazy-loaded localized strings
-    private static UIStrings previewStrings;
-    private static String[] TEXT;
+    // Localized strings, filled once by PickyStrings.load()
+    private static final String[] TEXT = PickyStrings.PREVIEW;
+
+    // Offscreen cache of the rendered preview
+    private FrameBuffer buffer;
+    private TextureRegion bufferRegion;
+    private boolean offscreenDisabled = false;
+    private final Matrix4 bufferProjection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private final IntBuffer savedViewport = BufferUtils.newIntBuffer(16);
+    private final IntBuffer savedFramebuffer = BufferUtils.newIntBuffer(16);
+    private int bufferX;
+    private int bufferY;
+    private int bufferWidth;
+    private int bufferHeight;
+
+    // Inputs the cached image was rendered from
+    private boolean cacheValid = false;
+    private AbstractRelic.RelicTier cachedTier;
+    private int cachedCount;
+    private List<AbstractRelic> cachedRelics;
+    private boolean cachedShowTierLabels;
+    private float cachedScale;
+    private Settings.GameLanguage cachedLanguage;
 
-    private static void ensureStringsLoaded() {
-        if (previewStrings == null) {
-            previewStrings = CardCrawlGame.languagePack.getUIString(PickyRelicsMod.makeID("Preview"));
-            TEXT = previewStrings.TEXT;
-        }
-    }
-
-    public RelicChoicePreview(float x, float y,
-                              Supplier<AbstractRelic.RelicTier> tierSupplier,
-                              Supplier<Integer> countSupplier,
-                              Supplier<List<AbstractRelic>> relicsSupplier) {
+    /**
+     * @param previewSupplier Advances and returns the current preview; called once per frame
+     */
+    public RelicChoicePreview(float x, float y, Supplier<PreviewState> previewSupplier) {
         this.x = x;
         this.y = y;
-        this.tierSupplier = tierSupplier;
-        this.countSupplier = countSupplier;
-        this.relicsSupplier = relicsSupplier;
+        this.previewSupplier = previewSupplier;
     }
 
     @Override
     public void render(SpriteBatch sb) {
-        ensureStringsLoaded();
-        AbstractRelic.RelicTier tier = tierSupplier.get();
-        int count = countSupplier.get();
+        if (preview == null) {
+            preview = previewSupplier.get();
+        }
+        // Tier, count and relics always come from the same snapshot
+        AbstractRelic.RelicTier tier = preview.tier;
+        int count = preview.count;
+        List<AbstractRelic> relics = preview.relics;
+        boolean showTierLabels = PickyRelicsMod.getConfig().showTierLabels;
+
+        if (!offscreenDisabled) {
+            try {
+                if (!isCached(tier, count, relics, showTierLabels)) {
+                    renderToBuffer(sb, tier, count, relics, showTierLabels);
+                }
+                // The buffer holds premultiplied color, so blend it as such
+                int blendSrc = sb.getBlendSrcFunc();
+                int blendDst = sb.getBlendDstFunc();
+                sb.setColor(Color.WHITE);
+                sb.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                sb.draw(bufferRegion, bufferX, bufferY, bufferWidth, bufferHeight);
+                sb.setBlendFunction(blendSrc, blendDst);
+                return;
+            } catch (RuntimeException e) {
+                Log.error("Offscreen preview rendering failed, drawing directly", e);
+                offscreenDisabled = true;
+                disposeBuffer();
+            }
+        }
+
+        renderContent(sb, tier, count, relics, showTierLabels);
+    }
+
+    private boolean isCached(AbstractRelic.RelicTier tier, int count, List<AbstractRelic> relics,
+                             boolean showTierLabels) {
+        return cacheValid
+                && tier == cachedTier
+                && count == cachedCount
+                && relics == cachedRelics
+                && showTierLabels == cachedShowTierLabels
+                && Settings.scale == cachedScale
+                && Settings.language == cachedLanguage;
+    }
+
+    /**
+     * Draw the preview into the offscreen buffer, (re)creating it if its size changed.
+     * Ends and restarts the batch; its projection, blend function and drawing state and the
+     * GL viewport are restored even on failure.
+     *
+     * Color is blended as usual, but alpha with (ONE, ONE_MINUS_SRC_ALPHA). That makes the buffer
+     * premultiplied: translucent edges drawn over the opaque reward sheet keep alpha 1 instead of
+     * a² + dst.a·(1-a).
+     */
+    private void renderToBuffer(SpriteBatch sb, AbstractRelic.RelicTier tier, int count,
+                                List<AbstractRelic> relics, boolean showTierLabels) {
+        cacheValid = false;
+        loadBannerTexture();
+        computeBounds(count);
+
+        if (buffer == null || buffer.getWidth() != bufferWidth || buffer.getHeight() != bufferHeight) {
+            disposeBuffer();
+            buffer = new FrameBuffer(Pixmap.Format.RGBA8888, bufferWidth, bufferHeight, false);
+            bufferRegion = new TextureRegion(buffer.getColorBufferTexture());
+            bufferRegion.flip(false, true);
+        }
+
+        savedProjection.set(sb.getProjectionMatrix());
+        bufferProjection.setToOrtho2D(bufferX, bufferY, bufferWidth, bufferHeight);
+        int blendSrc = sb.getBlendSrcFunc();
+        int blendDst = sb.getBlendDstFunc();
+        // FrameBuffer.end() would reset the viewport to the full window; keep the game's (letterboxing)
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, savedViewport);
+        // FrameBuffer.end() binds the default framebuffer; rebind whatever was bound (another mod's FBO)
+        Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, savedFramebuffer);
+
+        sb.end();
+        buffer.begin();
+        try {
+            Gdx.gl.glClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            sb.setProjectionMatrix(bufferProjection);
+            sb.begin();
+            // -1 stops the batch from setting its own blend function on flush
+            sb.setBlendFunction(-1, -1);
+            Gdx.gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA,
+                    GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            try {
+                renderContent(sb, tier, count, relics, showTierLabels);
+            } finally {
+                sb.end();
+                sb.setBlendFunction(blendSrc, blendDst);
+            }
+        } finally {
+            buffer.end(savedViewport.get(0), savedViewport.get(1), savedViewport.get(2), savedViewport.get(3));
+            Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, savedFramebuffer.get(0));
+            sb.setProjectionMatrix(savedProjection);
+            sb.begin();
+        }
+
+        cachedTier = tier;
+        cachedCount = count;
+        cachedRelics = relics;
+        cachedShowTierLabels = showTierLabels;
+        cachedScale = Settings.scale;
+        cachedLanguage = Settings.language;
+        cacheValid = true;
+    }
+
+    /**
+     * Screen-space pixel rectangle covering the background, banner and title for the given row count.
+     */
+    private void computeBounds(int count) {
+        float scaledX = x * Settings.scale;
+        float startY = y * Settings.scale;
+        float bannerW = BANNER_WIDTH * Settings.scale;
+        float bannerH = BANNER_HEIGHT * Settings.scale;
+        float panelW = PANEL_WIDTH * Settings.scale;
+        float padding = BACKGROUND_PADDING * Settings.scale;
+        float bgHeight = count * ROW_HEIGHT * Settings.scale + bannerH + padding;
+
+        float left = Math.min(scaledX - padding, scaledX + (panelW - bannerW) / 2.0f);
+        float right = Math.max(scaledX + panelW + padding, scaledX + (panelW + bannerW) / 2.0f);
+        float bottom = startY - bgHeight + bannerH / 2;
+        float top = startY + bannerH / 2.0f + 15.0f * Settings.scale;
 
+        bufferX = (int) Math.floor(left);
+        bufferY = (int) Math.floor(bottom);
+        bufferWidth = Math.max(1, (int) Math.ceil(right) - bufferX);
+        bufferHeight = Math.max(1, (int) Math.ceil(top) - bufferY);
+    }
+
+    private void disposeBuffer() {
+        if (buffer != null) {
+            buffer.dispose();
+            buffer = null;
+            bufferRegion = null;
+        }
+        cacheValid = false;
+    }
+
+    /**
+     * Draw the full preview with the batch's current projection.
+     */
+    private void renderContent(SpriteBatch sb, AbstractRelic.RelicTier tier, int count,
+                               List<AbstractRelic> relics, boolean showTierLabels) {
         float scaledX = x * Settings.scale;
         float startY = y * Settings.scale;
 
@@ -120,9 +284,6 @@ public class RelicChoicePreview implements IUIElement {
         // Calculate center X for chain icons (centered with panel)
         float panelCenterX = scaledX + panelW / 2.0f;
 
-        // Get preview relics
-        List<AbstractRelic> relics = relicsSupplier.get();
-
         // Render each choice
         for (int i = 0; i < count; i++) {
             // Draw panel background
@@ -153,7 +314,7 @@ public class RelicChoicePreview implements IUIElement {
 
                 // Tier label uses the actual relic's tier (important for Event tier
                 // where additional relics come from C/U/R pools)
-                if (PickyRelicsMod.showTierLabels) {
+                if (showTierLabels) {
                     String relicTierName = TierUtils.getTierDisplayText(relic.tier);
                     Color relicTierColor = TierUtils.getTierColor(relic.tier);
                     renderTierLabel(sb, scaledX, currentY, panelW, relicTierName, relicTierColor);
@@ -166,7 +327,7 @@ public class RelicChoicePreview implements IUIElement {
                         labelX, labelY, Settings.CREAM_COLOR);
 
                 // Use the selected tier for placeholder labels
-                if (PickyRelicsMod.showTierLabels) {
+                if (showTierLabels) {
                     renderTierLabel(sb, scaledX, currentY, panelW, tierName, tierColor);
                 }
             }
@@ -264,7 +425,7 @@ public class RelicChoicePreview implements IUIElement {
 
     @Override
     public void update() {
-        // No update logic needed
+        preview = previewSupplier.get();
     }
 
     @Override
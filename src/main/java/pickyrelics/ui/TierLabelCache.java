@@ -0,0 +1,81 @@
+package pickyrelics.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.megacrit.cardcrawl.core.Settings;
+import com.megacrit.cardcrawl.helpers.FontHelper;
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+import pickyrelics.util.TierUtils;
+
+/**
+ * Pre-laid-out tier labels for reward rendering.
+ *
+ * Text, dimmed color and measured width are computed once per tier and reused every frame.
+ * The cache is rebuilt when the language, the tip body font instance or its scale changes
+ * (fonts are regenerated on language change).
+ */
+public class TierLabelCache {
+    private static final AbstractRelic.RelicTier[] TIERS = AbstractRelic.RelicTier.values();
+
+    private static final String[] texts = new String[TIERS.length];
+    private static final Color[] colors = new Color[TIERS.length];
+    private static final float[] widths = new float[TIERS.length];
+    private static float lineHeight;
+
+    // State the labels were laid out for
+    private static Settings.GameLanguage cachedLanguage;
+    private static BitmapFont cachedFont;
+    private static float cachedFontScale = Float.NaN;
+
+    /**
+     * Rebuild the labels if the language or font changed since they were laid out.
+     * Call once before reading labels for a frame.
+     */
+    public static void validate() {
+        BitmapFont font = FontHelper.tipBodyFont;
+        float fontScale = font.getData().scaleX;
+        if (Settings.language == cachedLanguage && font == cachedFont && fontScale == cachedFontScale) {
+            return;
+        }
+
+        for (AbstractRelic.RelicTier tier : TIERS) {
+            int i = tier.ordinal();
+            texts[i] = TierUtils.getTierDisplayText(tier);
+
+            // Reduce brightness by 10% for subtler appearance
+            Color dimmed = TierUtils.getTierColor(tier).cpy();
+            dimmed.r *= 0.9F;
+            dimmed.g *= 0.9F;
+            dimmed.b *= 0.9F;
+            colors[i] = dimmed;
+
+            if (texts[i].isEmpty()) {
+                widths[i] = 0;
+            } else {
+                FontHelper.layout.setText(font, texts[i]);
+                widths[i] = FontHelper.layout.width;
+            }
+        }
+        lineHeight = font.getLineHeight();
+
+        cachedLanguage = Settings.language;
+        cachedFont = font;
+        cachedFontScale = fontScale;
+    }
+
+    public static String getText(AbstractRelic.RelicTier tier) {
+        return texts[tier.ordinal()];
+    }
+
+    public static Color getColor(AbstractRelic.RelicTier tier) {
+        return colors[tier.ordinal()];
+    }
+
+    public static float getWidth(AbstractRelic.RelicTier tier) {
+        return widths[tier.ordinal()];
+    }
+
+    public static float getLineHeight() {
+        return lineHeight;
+    }
+}
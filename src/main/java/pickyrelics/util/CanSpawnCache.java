@@ -0,0 +1,128 @@
+package pickyrelics.util;
+
+import com.megacrit.cardcrawl.cards.AbstractCard;
+import com.megacrit.cardcrawl.cards.CardGroup;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.helpers.RelicLibrary;
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-floor memo of relic canSpawn() results, keyed by relic id.
+ *
+ * canSpawn() implementations (especially in modpacks) inspect the floor number, the
+ * player's relics and the deck, and can be expensive. Results are cached until any
+ * of those change: validate() clears the cache when the floor number, the player, the
+ * relic fingerprint or the deck fingerprint differs from when the results were computed.
+ * The relic fingerprint covers every owned relic id, so same-count swaps (Neow's boss swap,
+ * trades, boss relics replacing the starter) invalidate; the deck fingerprint covers every
+ * card's uuid and upgrade count, so transforms, removals followed by additions and
+ * upgrades on the same floor invalidate too.
+ *
+ * Computing the fingerprints walks the relics and the deck, so it is done once per batch
+ * of lookups (RelicPoolReservation calls validate() when created), not per canSpawn().
+ */
+public class CanSpawnCache {
+    private static final HashMap<String, Boolean> results = new HashMap<>();
+
+    // State the cached results were computed against
+    private static AbstractPlayer cachedPlayer;
+    private static int cachedFloor = -1;
+    private static long cachedRelicFingerprint = -1;
+    private static long cachedDeckFingerprint = -1;
+
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Check whether a relic can currently spawn, asking the relic at most once per state.
+     * Call validate() before a batch of lookups.
+     *
+     * @param relicId The relic id
+     * @return The relic's canSpawn() result, or false if the id is unknown
+     */
+    public static boolean canSpawn(String relicId) {
+        Boolean cached = results.get(relicId);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+
+        misses++;
+        AbstractRelic relic = RelicLibrary.getRelic(relicId);
+        boolean result = relic != null && relic.canSpawn();
+        results.put(relicId, result);
+        return result;
+    }
+
+    /**
+     * Drop all cached results.
+     */
+    public static void invalidate() {
+        results.clear();
+        cachedPlayer = null;
+        cachedFloor = -1;
+        cachedRelicFingerprint = -1;
+        cachedDeckFingerprint = -1;
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Clear the cache if the floor, player, relics or deck changed since it was filled.
+     */
+    public static void validate() {
+        AbstractPlayer player = AbstractDungeon.player;
+        int floor = AbstractDungeon.floorNum;
+        long relicFingerprint = player != null ? relicFingerprint(player.relics) : 0;
+        long deckFingerprint = player != null ? deckFingerprint(player.masterDeck) : 0;
+
+        if (player != cachedPlayer || floor != cachedFloor
+                || relicFingerprint != cachedRelicFingerprint || deckFingerprint != cachedDeckFingerprint) {
+            results.clear();
+            cachedPlayer = player;
+            cachedFloor = floor;
+            cachedRelicFingerprint = relicFingerprint;
+            cachedDeckFingerprint = deckFingerprint;
+        }
+    }
+
+    /**
+     * Order-sensitive hash of the owned relic ids.
+     */
+    private static long relicFingerprint(List<AbstractRelic> relics) {
+        if (relics == null) return 0;
+
+        long hash = relics.size();
+        for (int i = 0; i < relics.size(); i++) {
+            hash = hash * 31 + Objects.hashCode(relics.get(i).relicId);
+        }
+        return hash;
+    }
+
+    /**
+     * Order-sensitive hash of the deck's card identities and upgrades.
+     * One pass over a few dozen cards, no allocation.
+     */
+    private static long deckFingerprint(CardGroup deck) {
+        if (deck == null || deck.group == null) return 0;
+
+        long hash = deck.group.size();
+        for (int i = 0; i < deck.group.size(); i++) {
+            AbstractCard card = deck.group.get(i);
+            hash = hash * 31 + Objects.hashCode(card.uuid);
+            hash = hash * 31 + card.timesUpgraded;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,142 @@
+package pickyrelics.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Debounced background writer for the settings file.
+ *
+ * schedule() only records the latest snapshot and (re)arms a timer, so slider drags
+ * never touch the disk on the render thread. When no new snapshot arrives for the
+ * debounce delay, a daemon thread writes the most recent one to a temp file next to
+ * the target and atomically moves it into place. One shutdown hook, shared by every
+ * writer, closes them all: anything still pending is flushed and the executors stop.
+ *
+ * @param <T> Settings snapshot type
+ */
+public class ConfigWriter<T> {
+    private static final long DEBOUNCE_MS = 300;
+
+    private final Path file;
+    private final Function<T, Properties> serializer;
+    private final AtomicReference<T> pending = new AtomicReference<>();
+    private final ScheduledExecutorService executor;
+    // Guards scheduled, closed and the file write
+    private final Object lock = new Object();
+    private ScheduledFuture<?> scheduled;
+    private boolean closed = false;
+
+    /**
+     * @param file       Settings file to write (same format SpireConfig reads)
+     * @param serializer Converts a snapshot to the properties to store
+     */
+    public ConfigWriter(Path file, Function<T, Properties> serializer) {
+        this.file = file;
+        this.serializer = serializer;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "PickyRelics-ConfigWriter");
+            t.setDaemon(true);
+            return t;
+        });
+        ShutdownHook.WRITERS.add(this);
+    }
+
+    /**
+     * Queue a snapshot for writing, replacing any snapshot not yet written.
+     * After close() the snapshot is written immediately on the calling thread.
+     */
+    public void schedule(T snapshot) {
+        pending.set(snapshot);
+        synchronized (lock) {
+            if (closed) {
+                flush();
+                return;
+            }
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            scheduled = executor.schedule(this::flush, DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Write the pending snapshot now, if there is one.
+     * Safe to call from any thread; concurrent flushes are serialized.
+     */
+    public void flush() {
+        synchronized (lock) {
+            T snapshot = pending.getAndSet(null);
+            if (snapshot == null) return;
+
+            try {
+                write(serializer.apply(snapshot));
+                Log.debug("Config saved: {}", snapshot);
+            } catch (IOException | RuntimeException e) {
+                Log.error("Failed to save config", e);
+            }
+        }
+    }
+
+    /**
+     * Flush anything pending and stop the background thread.
+     */
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+                scheduled = null;
+            }
+            flush();
+        }
+        executor.shutdown();
+        ShutdownHook.WRITERS.remove(this);
+    }
+
+    private void write(Properties properties) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+
+        Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Registers a single JVM shutdown hook the first time a writer is created.
+     */
+    private static final class ShutdownHook {
+        static final List<ConfigWriter<?>> WRITERS = new CopyOnWriteArrayList<>();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                for (ConfigWriter<?> writer : WRITERS) {
+                    writer.close();
+                }
+            }, "PickyRelics-ConfigFlush"));
+        }
+    }
+}
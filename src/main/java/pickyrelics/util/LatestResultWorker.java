@@ -0,0 +1,86 @@
+package pickyrelics.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs computations on a single daemon thread where only the newest request matters.
+ *
+ * submit() supersedes every earlier request: queued ones are cancelled, and one already
+ * running has its result discarded. The caller picks up the newest finished result with
+ * poll(), which is a single atomic read when nothing is ready, so it can be called every frame.
+ *
+ * @param <T> Result type (should be immutable, it is handed across threads)
+ */
+public class LatestResultWorker<T> {
+    private final String threadName;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Result<T>> ready = new AtomicReference<>();
+    private ExecutorService executor;
+    private Future<?> running;
+
+    private static final class Result<T> {
+        final long generation;
+        final T value;
+
+        Result(long generation, T value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+
+    /**
+     * @param threadName Name of the worker thread, started on first submit
+     */
+    public LatestResultWorker(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * Queue a computation, superseding all earlier ones.
+     */
+    public synchronized void submit(Supplier<T> task) {
+        long requested = generation.incrementAndGet();
+        if (running != null) {
+            running.cancel(false);
+        }
+        running = executor().submit(() -> {
+            if (generation.get() != requested) return;  // Superseded while queued
+            try {
+                T value = task.get();
+                if (generation.get() == requested) {
+                    ready.set(new Result<>(requested, value));
+                }
+            } catch (RuntimeException e) {
+                Log.error(threadName + " task failed", e);
+            }
+        });
+    }
+
+    /**
+     * Take the result of the newest request if it finished since the last poll.
+     *
+     * @return The result, or null if none is ready (or it was superseded)
+     */
+    public T poll() {
+        if (ready.get() == null) return null;
+        Result<T> result = ready.getAndSet(null);
+        if (result == null || result.generation != generation.get()) return null;
+        return result.value;
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, threadName);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+}
@@ -3,19 +3,114 @@ package pickyrelics.util;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
 /**
  * Logging utility that prefixes all messages with the mod name.
+ *
+ * Debug overloads taking a Supplier or a "{}" pattern with arguments build no message
+ * unless debug logging is enabled. They are not free: primitive arguments are boxed and
+ * the varargs overload allocates its array at the call site before the level check runs.
+ *
+ * Recent debug events can additionally be kept in an in-memory ring buffer
+ * (-Dpickyrelics.debugRing=N). Each argument is converted with String.valueOf when the
+ * event is recorded, so mutable arguments (reward lists, relics) show their state at that
+ * time; the message is only assembled when dumpRecent() runs, which every error() does.
  */
 public class Log {
     private static final String PREFIX = "[Picky Relics] ";
     private static final Logger logger = LogManager.getLogger(Log.class);
 
+    // Ring buffer of recent debug events, or null when disabled
+    private static final AtomicReferenceArray<Event> ring = createRing(Integer.getInteger("pickyrelics.debugRing", 0));
+    private static final AtomicLong ringNext = new AtomicLong();
+
+    /**
+     * A debug event: the pattern and a string snapshot of each argument, assembled on dump.
+     */
+    private static final class Event {
+        final long nanoTime;
+        final String pattern;
+        final Object[] args;
+
+        Event(String pattern, Object[] args) {
+            this.nanoTime = System.nanoTime();
+            this.pattern = pattern;
+            this.args = args;
+        }
+
+        String message() {
+            return format(pattern, args);
+        }
+    }
+
+    private static AtomicReferenceArray<Event> createRing(int size) {
+        return size > 0 ? new AtomicReferenceArray<>(size) : null;
+    }
+
+    public static boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
     public static void info(String message) {
         logger.info(PREFIX + message);
     }
 
     public static void debug(String message) {
-        logger.debug(PREFIX + message);
+        record(message, null);
+        if (logger.isDebugEnabled()) {
+            logger.debug(PREFIX + message);
+        }
+    }
+
+    /**
+     * Debug message built only if it will be logged or recorded.
+     */
+    public static void debug(Supplier<String> message) {
+        if (ring == null && !logger.isDebugEnabled()) return;
+
+        // Built once, at event time, for both the ring and the log
+        String text = message.get();
+        record(text, null);
+        if (logger.isDebugEnabled()) {
+            logger.debug(PREFIX + text);
+        }
+    }
+
+    /**
+     * Debug message with "{}" placeholders, formatted only if debug logging is enabled.
+     */
+    public static void debug(String pattern, Object arg) {
+        if (ring != null || logger.isDebugEnabled()) {
+            debugArgs(pattern, new Object[] { arg });
+        }
+    }
+
+    public static void debug(String pattern, Object arg1, Object arg2) {
+        if (ring != null || logger.isDebugEnabled()) {
+            debugArgs(pattern, new Object[] { arg1, arg2 });
+        }
+    }
+
+    public static void debug(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (ring != null || logger.isDebugEnabled()) {
+            debugArgs(pattern, new Object[] { arg1, arg2, arg3 });
+        }
+    }
+
+    public static void debug(String pattern, Object... args) {
+        if (ring != null || logger.isDebugEnabled()) {
+            debugArgs(pattern, args);
+        }
+    }
+
+    private static void debugArgs(String pattern, Object[] args) {
+        record(pattern, args);
+        if (logger.isDebugEnabled()) {
+            logger.debug(PREFIX + format(pattern, args));
+        }
     }
 
     public static void warn(String message) {
@@ -24,9 +119,65 @@ public class Log {
 
     public static void error(String message) {
         logger.error(PREFIX + message);
+        dumpRecent();
     }
 
     public static void error(String message, Throwable t) {
         logger.error(PREFIX + message, t);
+        dumpRecent();
+    }
+
+    /**
+     * Log the recorded debug events, oldest first, at info level.
+     * Does nothing if the ring buffer is disabled or empty.
+     */
+    public static void dumpRecent() {
+        if (ring == null) return;
+
+        long end = ringNext.get();
+        long start = Math.max(0, end - ring.length());
+        if (start == end) return;
+
+        long now = System.nanoTime();
+        StringBuilder sb = new StringBuilder(PREFIX).append("Last ").append(end - start).append(" debug event(s):");
+        for (long i = start; i < end; i++) {
+            Event event = ring.get((int) (i % ring.length()));
+            if (event == null) continue; // Slot claimed but not written yet
+            sb.append("\n  -").append((now - event.nanoTime) / 1_000_000L).append("ms ").append(event.message());
+        }
+        logger.info(sb.toString());
+    }
+
+    private static void record(String pattern, Object[] args) {
+        if (ring == null) return;
+
+        // Snapshot the arguments now; the caller may mutate them before the dump
+        Object[] snapshot = null;
+        if (args != null) {
+            snapshot = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                snapshot[i] = String.valueOf(args[i]);
+            }
+        }
+
+        long slot = ringNext.getAndIncrement();
+        ring.set((int) (slot % ring.length()), new Event(pattern, snapshot));
+    }
+
+    /**
+     * Replace each "{}" in the pattern with the next argument.
+     */
+    static String format(String pattern, Object[] args) {
+        if (args == null || args.length == 0) return pattern;
+
+        StringBuilder sb = new StringBuilder(pattern.length() + 16 * args.length);
+        int argIndex = 0;
+        int from = 0;
+        int at;
+        while (argIndex < args.length && (at = pattern.indexOf("{}", from)) >= 0) {
+            sb.append(pattern, from, at).append(args[argIndex++]);
+            from = at + 2;
+        }
+        return sb.append(pattern, from, pattern.length()).toString();
     }
 }
@@ -0,0 +1,125 @@
+package pickyrelics.util;
+
+import basemod.BaseMod;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.megacrit.cardcrawl.localization.UIStrings;
+import pickyrelics.PickyRelicsMod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * All localized UI strings of the mod, resolved once in receiveEditStrings.
+ *
+ * The English file and the current language's file are merged per entry and per index
+ * (missing or empty translations fall back to English), registered with BaseMod in one
+ * call, and copied into the arrays below. Readers index the arrays directly; there is no
+ * lazy lookup on the render path.
+ */
+public final class PickyStrings {
+    private static final String DEFAULT_LANGUAGE = "eng";
+
+    public static final String[] MOD_INFO = blank(3);
+    public static final String[] TIER_NAMES = blank(7);
+    public static final String[] SETTINGS = blank(11);
+    public static final String[] PROBABILITY = blank(3);
+    public static final String[] PREVIEW = blank(2);
+    public static final String[] PAGE_NAV = blank(1);
+    public static final String[] TOOLTIP = blank(2);
+
+    private PickyStrings() {
+    }
+
+    private static String[] blank(int size) {
+        String[] text = new String[size];
+        Arrays.fill(text, "");
+        return text;
+    }
+
+    /**
+     * Merge English with the given language, register the result with BaseMod and fill the arrays.
+     *
+     * @param lang Lower-case game language code (e.g., "eng", "zhs")
+     */
+    public static void load(String lang) {
+        JsonObject merged = read(DEFAULT_LANGUAGE);
+        if (merged == null) {
+            Log.error("Missing English localization");
+            return;
+        }
+
+        if (!DEFAULT_LANGUAGE.equals(lang)) {
+            JsonObject translated = read(lang);
+            if (translated != null) {
+                overlay(merged, translated);
+                Log.info("Loaded localization for language: " + lang);
+            } else {
+                Log.info("No localization for " + lang + ", using English");
+            }
+        }
+
+        BaseMod.loadCustomStrings(UIStrings.class, new Gson().toJson(merged));
+
+        copy(merged, "ModInfo", MOD_INFO);
+        copy(merged, "TierNames", TIER_NAMES);
+        copy(merged, "Settings", SETTINGS);
+        copy(merged, "Probability", PROBABILITY);
+        copy(merged, "Preview", PREVIEW);
+        copy(merged, "PageNav", PAGE_NAV);
+        copy(merged, "Tooltip", TOOLTIP);
+    }
+
+    private static JsonObject read(String lang) {
+        FileHandle file = Gdx.files.internal(
+                PickyRelicsMod.MOD_ID + "Resources/localization/" + lang + "/UIStrings.json");
+        if (!file.exists()) return null;
+
+        try {
+            return new JsonParser().parse(file.readString(StandardCharsets.UTF_8.name())).getAsJsonObject();
+        } catch (RuntimeException e) {
+            Log.error("Failed to parse " + lang + " localization", e);
+            return null;
+        }
+    }
+
+    /**
+     * Replace English TEXT entries index by index wherever the translation has a non-empty value.
+     */
+    private static void overlay(JsonObject english, JsonObject translated) {
+        for (Map.Entry<String, JsonElement> entry : english.entrySet()) {
+            JsonElement other = translated.get(entry.getKey());
+            if (other == null || !other.isJsonObject()) continue;
+
+            JsonArray base = entry.getValue().getAsJsonObject().getAsJsonArray("TEXT");
+            JsonArray text = other.getAsJsonObject().getAsJsonArray("TEXT");
+            if (base == null || text == null) continue;
+
+            for (int i = 0; i < base.size() && i < text.size(); i++) {
+                JsonElement value = text.get(i);
+                if (value != null && !value.isJsonNull() && !value.getAsString().isEmpty()) {
+                    base.set(i, value);
+                }
+            }
+        }
+    }
+
+    private static void copy(JsonObject merged, String key, String[] target) {
+        JsonElement entry = merged.get(PickyRelicsMod.makeID(key));
+        if (entry == null || !entry.isJsonObject()) {
+            Log.warn("Missing localized strings for " + key);
+            return;
+        }
+
+        JsonArray text = entry.getAsJsonObject().getAsJsonArray("TEXT");
+        for (int i = 0; i < target.length && text != null && i < text.size(); i++) {
+            target[i] = text.get(i).getAsString();
+        }
+    }
+}
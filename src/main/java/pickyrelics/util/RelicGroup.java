@@ -0,0 +1,83 @@
+package pickyrelics.util;
+
+import com.megacrit.cardcrawl.rewards.RewardItem;
+
+import java.util.List;
+
+/**
+ * A linked group of relic rewards: claiming one removes the others.
+ *
+ * Members are stored in chain order (original first, then the added choices), followed by the
+ * original relicLink (e.g., Sapphire Key) when there is one, so it is handled uniformly for
+ * highlighting. Each member's RelicRewardState holds its index, so first/last and membership
+ * checks are constant time.
+ */
+public final class RelicGroup {
+    private final RewardItem[] members;
+    private final RewardItem originalLink;
+    private boolean claimed;
+
+    // Hover tracking: the member hovered this frame, and the one redText was last written for
+    private RewardItem hovered;
+    private RewardItem applied;
+
+    /**
+     * @param relics       The linked relics in chain order
+     * @param originalLink The original relicLink of the first relic (e.g., Sapphire Key), or null
+     */
+    public RelicGroup(List<RewardItem> relics, RewardItem originalLink) {
+        int size = relics.size() + (originalLink != null ? 1 : 0);
+        this.members = relics.toArray(new RewardItem[size]);
+        if (originalLink != null) {
+            members[size - 1] = originalLink;
+        }
+        this.originalLink = originalLink;
+    }
+
+    /**
+     * Number of members, including the original link.
+     */
+    public int size() {
+        return members.length;
+    }
+
+    public RewardItem get(int index) {
+        return members[index];
+    }
+
+    public boolean isFirst(int index) {
+        return index == 0;
+    }
+
+    public boolean isLast(int index) {
+        return index == members.length - 1;
+    }
+
+    public RewardItem getOriginalLink() {
+        return originalLink;
+    }
+
+    public boolean isClaimed() {
+        return claimed;
+    }
+
+    public void setClaimed() {
+        claimed = true;
+    }
+
+    public RewardItem getHovered() {
+        return hovered;
+    }
+
+    public void setHovered(RewardItem hovered) {
+        this.hovered = hovered;
+    }
+
+    public RewardItem getApplied() {
+        return applied;
+    }
+
+    public void setApplied(RewardItem applied) {
+        this.applied = applied;
+    }
+}
@@ -0,0 +1,188 @@
+package pickyrelics.util;
+
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.helpers.RelicLibrary;
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Transactional read-ahead over the dungeon's relic pools.
+ *
+ * AbstractDungeon.returnRandomRelic permanently removes a relic from its pool even when
+ * the caller then can't use it, e.g. because the pool for a shifted tier is exhausted.
+ * This class plans first: reserve() peeks the pools in the game's draw order (front of the
+ * pre-shuffled list), skipping relics that can't spawn (asked at most once per state via
+ * CanSpawnCache) and relics already reserved, without consuming anything. Only the tiers
+ * the plan settles on are drawn, on commit().
+ *
+ * The actual draws go through AbstractDungeon.returnRandomRelicKey, one per reservation,
+ * so vanilla behavior (a relic failing canSpawn() is consumed and replaced from the end
+ * of the pool) and other mods' patches on that method (blacklists, filters, tier
+ * overrides) apply to the extra choices as they do to the original reward. The drawn relic
+ * can therefore differ from the one peeked; the read-ahead only decides how many relics
+ * each tier can supply.
+ *
+ * Usage: reserve() any number of relics, then commit() or rollback() exactly once.
+ */
+public class RelicPoolReservation {
+    // Returned by returnRandomRelicKey when every pool it cascades through is empty
+    private static final String CIRCLET_ID = "Circlet";
+    private static final String RED_CIRCLET_ID = "Red Circlet";
+
+    // Peeked relic ids (for skipping in later peeks) and the tier of each reservation
+    private final Set<String> reservedIds = new HashSet<>();
+    private final List<String> reservedOrder = new ArrayList<>();
+    private final List<AbstractRelic.RelicTier> reservedTiers = new ArrayList<>();
+    private boolean finished = false;
+
+    public RelicPoolReservation() {
+        // Player state can't change while a reservation is open; check it once for all peeks
+        CanSpawnCache.validate();
+    }
+
+    /**
+     * Get the dungeon pool backing a tier.
+     *
+     * @return The pool, or null for tiers without a draw pool (Starter, Event)
+     */
+    private static ArrayList<String> getPool(AbstractRelic.RelicTier tier) {
+        switch (tier) {
+            case COMMON:   return AbstractDungeon.commonRelicPool;
+            case UNCOMMON: return AbstractDungeon.uncommonRelicPool;
+            case RARE:     return AbstractDungeon.rareRelicPool;
+            case SHOP:     return AbstractDungeon.shopRelicPool;
+            case BOSS:     return AbstractDungeon.bossRelicPool;
+            default:       return null;
+        }
+    }
+
+    /**
+     * Find the next relic the game would hand out for a tier that can spawn and is not
+     * already reserved, without consuming anything.
+     *
+     * @param tier The tier to peek
+     * @return The relic id, or null if the pool has no eligible relic left
+     */
+    public String peek(AbstractRelic.RelicTier tier) {
+        ArrayList<String> pool = getPool(tier);
+        if (pool == null) return null;
+
+        for (int i = 0; i < pool.size(); i++) {
+            String id = pool.get(i);
+            if (reservedIds.contains(id)) continue;
+
+            if (CanSpawnCache.canSpawn(id)) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserve one draw from a tier, if its pool has an eligible relic left.
+     *
+     * @param tier The tier to draw from
+     * @return Index of the reservation in the list returned by commit(), or -1 if the pool
+     *         has no eligible relic left
+     */
+    public int reserve(AbstractRelic.RelicTier tier) {
+        checkOpen();
+
+        String id = peek(tier);
+        if (id == null) return -1;
+
+        return add(id, tier);
+    }
+
+    /**
+     * Reserve up to count draws from a tier in a single walk of its pool.
+     *
+     * @param tier  The tier to draw from
+     * @param count Maximum number of draws to reserve
+     * @return Indices of the reservations in the list returned by commit(), in draw order;
+     *         shorter than count if the pool ran out
+     */
+    public List<Integer> reserve(AbstractRelic.RelicTier tier, int count) {
+        checkOpen();
+
+        ArrayList<Integer> tickets = new ArrayList<>(Math.max(count, 0));
+        ArrayList<String> pool = getPool(tier);
+        if (pool == null) return tickets;
+
+        for (int i = 0; i < pool.size() && tickets.size() < count; i++) {
+            String id = pool.get(i);
+            if (reservedIds.contains(id) || !CanSpawnCache.canSpawn(id)) continue;
+
+            tickets.add(add(id, tier));
+        }
+        return tickets;
+    }
+
+    private int add(String id, AbstractRelic.RelicTier tier) {
+        reservedIds.add(id);
+        reservedOrder.add(id);
+        reservedTiers.add(tier);
+        return reservedOrder.size() - 1;
+    }
+
+    private void checkOpen() {
+        if (finished) {
+            throw new IllegalStateException("Reservation already committed or rolled back");
+        }
+    }
+
+    /**
+     * Number of draws currently reserved.
+     */
+    public int size() {
+        return reservedOrder.size();
+    }
+
+    /**
+     * Draw every reservation through AbstractDungeon.returnRandomRelicKey.
+     *
+     * @return A fresh relic per reservation, indexed like the reserve() results;
+     *         an entry is null if the game had nothing left to give (Circlet)
+     */
+    public List<AbstractRelic> commit() {
+        checkOpen();
+        finished = true;
+
+        ArrayList<AbstractRelic> relics = new ArrayList<>(reservedOrder.size());
+        for (int i = 0; i < reservedOrder.size(); i++) {
+            String key = AbstractDungeon.returnRandomRelicKey(reservedTiers.get(i));
+            if (key == null || CIRCLET_ID.equals(key) || RED_CIRCLET_ID.equals(key)) {
+                Log.debug("Picky Relics: {} draw returned {}, skipping", reservedTiers.get(i), key);
+                relics.add(null);
+                continue;
+            }
+            if (!key.equals(reservedOrder.get(i))) {
+                Log.debug("Picky Relics: {} draw returned {} instead of peeked {}",
+                        reservedTiers.get(i), key, reservedOrder.get(i));
+            }
+            relics.add(RelicLibrary.getRelic(key).makeCopy());
+        }
+        Log.debug("Committed {} relic reservation(s), canSpawn cache hits={} misses={}",
+                reservedOrder.size(), CanSpawnCache.getHits(), CanSpawnCache.getMisses());
+        return relics;
+    }
+
+    /**
+     * Release every reservation. Nothing was drawn, so the pools are untouched.
+     */
+    public void rollback() {
+        if (finished) return;
+        finished = true;
+
+        if (!reservedOrder.isEmpty()) {
+            Log.debug("Rolled back {} relic reservation(s)", reservedOrder.size());
+        }
+        reservedIds.clear();
+        reservedOrder.clear();
+        reservedTiers.clear();
+    }
+}
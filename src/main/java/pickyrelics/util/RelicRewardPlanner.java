@@ -0,0 +1,222 @@
+package pickyrelics.util;
+
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.relics.AbstractRelic;
+import pickyrelics.core.PickyRelicsConfig;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plans the extra relic choices for every relic reward in a room in one batch.
+ *
+ * Usage: addGroup() once per relic reward that needs extra choices, then plan() once.
+ *
+ * plan() works in three passes over all groups together:
+ * 1. Roll the target tier of every extra slot (tier shift, or random C/U/R start for Event relics)
+ * 2. Sum the demand per tier and reserve it with one walk of each pool
+ * 3. Send slots their tier couldn't fill down their fallback cascade
+ *
+ * Everything is reserved in a single RelicPoolReservation and only drawn (through the
+ * game's returnRandomRelicKey) once the whole room has been planned, so no relic appears
+ * in two groups and no pool is touched for a draw that would be thrown away.
+ */
+public class RelicRewardPlanner {
+
+    // Standard tiers to try for event relic alternatives
+    private static final AbstractRelic.RelicTier[] EVENT_ALTERNATIVE_TIERS = {
+            AbstractRelic.RelicTier.COMMON,
+            AbstractRelic.RelicTier.UNCOMMON,
+            AbstractRelic.RelicTier.RARE
+    };
+
+    private final PickyRelicsConfig config;
+    private final List<AbstractRelic.RelicTier> groupTiers = new ArrayList<>();
+    private final List<Integer> groupExtras = new ArrayList<>();
+    private boolean planned = false;
+
+    /**
+     * One extra relic choice waiting to be filled.
+     */
+    private static class Slot {
+        final int group;
+        final AbstractRelic.RelicTier[] tiers; // Preferred tier first, then fallbacks in order
+        int ticket = -1;                       // Reservation index, -1 while unfilled
+
+        Slot(int group, AbstractRelic.RelicTier[] tiers) {
+            this.group = group;
+            this.tiers = tiers;
+        }
+    }
+
+    /**
+     * @param config Settings snapshot used for every tier roll in the room
+     */
+    public RelicRewardPlanner(PickyRelicsConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Request extra choices for one relic reward.
+     *
+     * @param tier        Tier of the original relic
+     * @param extraCount  Number of relics to add next to the original
+     * @return Index of the group in the list returned by plan()
+     */
+    public int addGroup(AbstractRelic.RelicTier tier, int extraCount) {
+        groupTiers.add(tier);
+        groupExtras.add(Math.max(extraCount, 0));
+        return groupTiers.size() - 1;
+    }
+
+    /**
+     * Roll, reserve and commit the extra relics for every group.
+     *
+     * @return The extra relics per group, in addGroup() order. A group's list is shorter
+     *         than requested if every pool it could draw from was exhausted.
+     */
+    public List<List<AbstractRelic>> plan() {
+        if (planned) {
+            throw new IllegalStateException("Planner already used");
+        }
+        planned = true;
+
+        // Pass 1: roll every slot's tier cascade
+        List<Slot> slots = new ArrayList<>();
+        for (int g = 0; g < groupTiers.size(); g++) {
+            AbstractRelic.RelicTier tier = groupTiers.get(g);
+            for (int i = 0; i < groupExtras.get(g); i++) {
+                slots.add(new Slot(g, rollSlotTiers(tier)));
+            }
+        }
+
+        RelicPoolReservation reservation = new RelicPoolReservation();
+        List<AbstractRelic> drawnRelics = null;
+        try {
+            // Pass 2: one pool walk per tier for the combined demand
+            Map<AbstractRelic.RelicTier, List<Slot>> demand = new EnumMap<>(AbstractRelic.RelicTier.class);
+            for (Slot slot : slots) {
+                demand.computeIfAbsent(slot.tiers[0], t -> new ArrayList<>()).add(slot);
+            }
+            for (Map.Entry<AbstractRelic.RelicTier, List<Slot>> entry : demand.entrySet()) {
+                List<Slot> waiting = entry.getValue();
+                List<Integer> drawn = reservation.reserve(entry.getKey(), waiting.size());
+                for (int i = 0; i < drawn.size(); i++) {
+                    waiting.get(i).ticket = drawn.get(i);
+                }
+                Log.debug("Planned {}: demand={} drawn={}", entry.getKey(), waiting.size(), drawn.size());
+            }
+
+            // Pass 3: fallbacks for slots whose tier ran dry (rare: only near pool exhaustion)
+            for (Slot slot : slots) {
+                if (slot.ticket >= 0) continue;
+
+                for (int i = 1; i < slot.tiers.length && slot.ticket < 0; i++) {
+                    slot.ticket = reservation.reserve(slot.tiers[i]);
+                    if (slot.ticket >= 0) {
+                        Log.debug("Picky Relics: {} exhausted, using fallback tier {}", slot.tiers[0], slot.tiers[i]);
+                    }
+                }
+                if (slot.ticket < 0) {
+                    Log.debug("Picky Relics: All fallback tiers exhausted for {}", slot.tiers[0]);
+                }
+            }
+
+            drawnRelics = reservation.commit();
+        } finally {
+            if (drawnRelics == null) {
+                reservation.rollback();
+            }
+        }
+
+        List<List<AbstractRelic>> result = new ArrayList<>(groupTiers.size());
+        for (int g = 0; g < groupTiers.size(); g++) {
+            result.add(new ArrayList<>(groupExtras.get(g)));
+        }
+        for (Slot slot : slots) {
+            AbstractRelic relic = slot.ticket >= 0 ? drawnRelics.get(slot.ticket) : null;
+            if (relic != null) {
+                result.get(slot.group).add(relic);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Roll the ordered list of tiers one extra slot should try.
+     */
+    private AbstractRelic.RelicTier[] rollSlotTiers(AbstractRelic.RelicTier tier) {
+        if (tier == AbstractRelic.RelicTier.SPECIAL) {
+            // Event tier: additional choices come from C/U/R, starting at a random tier for fairness
+            int startIndex = AbstractDungeon.relicRng.random(EVENT_ALTERNATIVE_TIERS.length - 1);
+            AbstractRelic.RelicTier[] tiers = new AbstractRelic.RelicTier[EVENT_ALTERNATIVE_TIERS.length];
+            for (int i = 0; i < tiers.length; i++) {
+                tiers[i] = EVENT_ALTERNATIVE_TIERS[(startIndex + i) % EVENT_ALTERNATIVE_TIERS.length];
+            }
+            return tiers;
+        }
+
+        AbstractRelic.RelicTier tierToUse = calculateModifiedTier(tier);
+        if (tierToUse != tier) {
+            Log.debug("Picky Relics: Tier changed from {} to {}", tier, tierToUse);
+        }
+
+        AbstractRelic.RelicTier[] fallbacks = getFallbackTiers(tierToUse);
+        AbstractRelic.RelicTier[] tiers = new AbstractRelic.RelicTier[fallbacks.length + 1];
+        tiers[0] = tierToUse;
+        System.arraycopy(fallbacks, 0, tiers, 1, fallbacks.length);
+        return tiers;
+    }
+
+    /**
+     * Calculate a potentially modified tier using game's seeded RNG.
+     * Wrapper around TierUtils.calculateModifiedTier with game-specific RNG.
+     */
+    private AbstractRelic.RelicTier calculateModifiedTier(AbstractRelic.RelicTier originalTier) {
+        return TierUtils.calculateModifiedTier(
+                config.getTransitionTable(),
+                originalTier,
+                chance -> AbstractDungeon.relicRng.randomBoolean(chance / 100.0f) ? 1 : 0,
+                () -> (double) AbstractDungeon.relicRng.random()
+        );
+    }
+
+    /**
+     * Get the ordered list of fallback tiers for a given tier when the pool is exhausted.
+     * Uses a cascade approach: try adjacent tiers first, then expand.
+     *
+     * @param tier The original tier that was exhausted
+     * @return Array of tiers to try in order
+     */
+    private static AbstractRelic.RelicTier[] getFallbackTiers(AbstractRelic.RelicTier tier) {
+        switch (tier) {
+            case COMMON:
+                return new AbstractRelic.RelicTier[] {
+                    AbstractRelic.RelicTier.UNCOMMON,
+                    AbstractRelic.RelicTier.RARE
+                };
+            case UNCOMMON:
+                return new AbstractRelic.RelicTier[] {
+                    AbstractRelic.RelicTier.COMMON,
+                    AbstractRelic.RelicTier.RARE
+                };
+            case RARE:
+                return new AbstractRelic.RelicTier[] {
+                    AbstractRelic.RelicTier.UNCOMMON,
+                    AbstractRelic.RelicTier.COMMON
+                };
+            case BOSS:
+            case SHOP:
+            case STARTER:
+            default:
+                // For non-standard tiers, try Common -> Uncommon -> Rare
+                return new AbstractRelic.RelicTier[] {
+                    AbstractRelic.RelicTier.COMMON,
+                    AbstractRelic.RelicTier.UNCOMMON,
+                    AbstractRelic.RelicTier.RARE
+                };
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package pickyrelics.util;
+
+import com.megacrit.cardcrawl.rewards.RewardItem;
+
+/**
+ * Picky Relics state attached to a single RewardItem.
+ * Created on first write; rewards we never touched have no state.
+ */
+public final class RelicRewardState {
+    // The linked group this reward belongs to, and its position in it (null/-1 until linked)
+    public RelicGroup group;
+    public int index = -1;
+    // Whether this reward was added by Picky Relics (not the original game/other mods)
+    public boolean addedByPickyRelics;
+    // Whether this reward was processed during the PostBattle phase (to avoid double-processing)
+    public boolean processedInPostBattle;
+    // The original relicLink that existed before we modified the chain (e.g., Sapphire Key)
+    public RewardItem originalRelicLink;
+}